@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.benchmarks;
+
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.reactivex.rxjava3.core.Flowable;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Controller serving the in-process endpoints used by the HTTP client benchmarks.
+ */
+@Controller("/bench")
+public class BenchmarkController {
+
+    private final List<Item> items = IntStream.range(0, 1000)
+            .mapToObj(i -> new Item(i, "item-" + i))
+            .collect(Collectors.toList());
+
+    /**
+     * @return A plain text response
+     */
+    @Get(value = "/text", produces = MediaType.TEXT_PLAIN)
+    public String text() {
+        return "pong";
+    }
+
+    /**
+     * @return A single JSON object
+     */
+    @Get("/item")
+    public Item item() {
+        return items.get(0);
+    }
+
+    /**
+     * @return A stream of JSON objects
+     */
+    @Get(value = "/items", produces = MediaType.APPLICATION_JSON_STREAM)
+    public Flowable<Item> items() {
+        return Flowable.fromIterable(items);
+    }
+
+    /**
+     * A JSON item.
+     *
+     * @param id   The id
+     * @param name The name
+     */
+    public record Item(int id, String name) {
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.benchmarks;
+
+import io.micronaut.core.convert.MutableConversionService;
+import io.micronaut.rxjava3.converters.RxJava2ToRxJava3ConveterRegistrar;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the RxJava 2 to RxJava 3 interop converters registered by {@link RxJava2ToRxJava3ConveterRegistrar}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BridgeBenchmark {
+
+    @Param({"1", "1000"})
+    int size;
+
+    private MutableConversionService conversionService;
+    private Flowable<Integer> v3Flowable;
+    private io.reactivex.Flowable<Integer> v2Flowable;
+    private Single<Integer> v3Single;
+    private io.reactivex.Single<Integer> v2Single;
+    private Maybe<Integer> v3Maybe;
+
+    @Setup
+    public void setup() {
+        conversionService = MutableConversionService.create();
+        new RxJava2ToRxJava3ConveterRegistrar().register(conversionService);
+        v3Flowable = Flowable.range(0, size);
+        v2Flowable = io.reactivex.Flowable.range(0, size);
+        v3Single = Single.just(1);
+        v2Single = io.reactivex.Single.just(1);
+        v3Maybe = Maybe.just(1);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void v3FlowableToV2(Blackhole blackhole) {
+        conversionService.convertRequired(v3Flowable, io.reactivex.Flowable.class).subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void v2FlowableToV3(Blackhole blackhole) {
+        conversionService.convertRequired(v2Flowable, Flowable.class).subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public Object v3SingleToV2() {
+        return conversionService.convertRequired(v3Single, io.reactivex.Single.class).blockingGet();
+    }
+
+    @Benchmark
+    public Object v2SingleToV3() {
+        return conversionService.convertRequired(v2Single, Single.class).blockingGet();
+    }
+
+    @Benchmark
+    public Object v3MaybeToV2Flowable() {
+        return conversionService.convertRequired(v3Maybe, io.reactivex.Flowable.class).blockingFirst();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.rxjava3.http.client.Rx3SseClient;
+import io.micronaut.rxjava3.http.client.Rx3StreamingHttpClient;
+import io.micronaut.rxjava3.http.client.proxy.Rx3ProxyHttpClient;
+import io.micronaut.rxjava3.http.client.websockets.Rx3WebSocketClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the programmatic resolution of the RxJava 3 clients from a running context, which goes through the client
+ * factories each time, and the startup of a context resolving each of them once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ClientResolutionBenchmark {
+
+    private ApplicationContext context;
+
+    @Setup
+    public void setup() {
+        context = ApplicationContext.run();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object resolveStreamingHttpClient() {
+        return context.getBean(Rx3StreamingHttpClient.class);
+    }
+
+    @Benchmark
+    public Object resolveSseClient() {
+        return context.getBean(Rx3SseClient.class);
+    }
+
+    @Benchmark
+    public Object resolveWebSocketClient() {
+        return context.getBean(Rx3WebSocketClient.class);
+    }
+
+    @Benchmark
+    public Object resolveProxyHttpClient() {
+        return context.getBean(Rx3ProxyHttpClient.class);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public void startAndResolve(Blackhole blackhole) {
+        try (ApplicationContext started = ApplicationContext.run()) {
+            blackhole.consume(started.getBean(Rx3StreamingHttpClient.class));
+            blackhole.consume(started.getBean(Rx3SseClient.class));
+            blackhole.consume(started.getBean(Rx3WebSocketClient.class));
+            blackhole.consume(started.getBean(Rx3ProxyHttpClient.class));
+        }
+    }
+}
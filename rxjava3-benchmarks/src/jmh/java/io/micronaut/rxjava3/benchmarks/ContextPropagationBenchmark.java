@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.benchmarks;
+
+import io.micronaut.core.convert.MutableConversionService;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.core.propagation.PropagatedContextElement;
+import io.micronaut.rxjava3.converters.RxJava3ConverterRegistrar;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the context propagating {@code Publisher -> Flowable} conversion of
+ * {@link RxJava3ConverterRegistrar} with a wrapper that installs the propagated context for every signal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContextPropagationBenchmark {
+
+    @Param({"10", "100000"})
+    int size;
+
+    private MutableConversionService conversionService;
+    private PropagatedContext context;
+    private Publisher<Integer> source;
+
+    @Setup
+    public void setup() {
+        conversionService = MutableConversionService.create();
+        new RxJava3ConverterRegistrar().register(conversionService);
+        context = PropagatedContext.getOrEmpty().plus(new BenchmarkContextElement());
+        Flowable<Integer> range = Flowable.range(0, size);
+        source = subscriber -> range.subscribe(subscriber);
+    }
+
+    @Benchmark
+    public void perSignal(Blackhole blackhole) {
+        try (PropagatedContext.Scope ignore = context.propagate()) {
+            Flowable.fromPublisher(new PerSignalPropagatingPublisher<>(source))
+                    .subscribe(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void fastPath(Blackhole blackhole) {
+        try (PropagatedContext.Scope ignore = context.propagate()) {
+            convert(source).subscribe(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void fastPathNoContext(Blackhole blackhole) {
+        convert(source).subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public Integer perSignalObserveOn() {
+        try (PropagatedContext.Scope ignore = context.propagate()) {
+            return Flowable.fromPublisher(new PerSignalPropagatingPublisher<>(source))
+                    .map(i -> i + 1)
+                    .observeOn(Schedulers.computation())
+                    .blockingLast();
+        }
+    }
+
+    @Benchmark
+    public Integer fusedObserveOn() {
+        try (PropagatedContext.Scope ignore = context.propagate()) {
+            return convert(source)
+                    .map(i -> i + 1)
+                    .observeOn(Schedulers.computation())
+                    .blockingLast();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Flowable<Integer> convert(Publisher<Integer> publisher) {
+        return conversionService.convertRequired(publisher, Flowable.class);
+    }
+
+    /**
+     * Marker element so that the propagated context is not empty.
+     */
+    static final class BenchmarkContextElement implements PropagatedContextElement {
+    }
+
+    /**
+     * The previous wrapper, which installs the propagated context around every signal.
+     *
+     * @param <T> The element type
+     */
+    static final class PerSignalPropagatingPublisher<T> implements Publisher<T> {
+
+        private final PropagatedContext context;
+        private final Publisher<? extends T> actual;
+
+        PerSignalPropagatingPublisher(Publisher<? extends T> actual) {
+            this.context = PropagatedContext.find().orElse(null);
+            this.actual = actual;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> subscriber) {
+            if (context == null) {
+                actual.subscribe(subscriber);
+            } else {
+                executeInContext(() -> actual.subscribe(new Subscriber<T>() {
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        executeInContext(() -> subscriber.onSubscribe(subscription));
+                    }
+
+                    @Override
+                    public void onNext(T t) {
+                        executeInContext(() -> subscriber.onNext(t));
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        executeInContext(() -> subscriber.onError(throwable));
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        executeInContext(subscriber::onComplete);
+                    }
+                }));
+            }
+        }
+
+        private void executeInContext(Runnable runnable) {
+            try (PropagatedContext.Scope ignore = context.propagate()) {
+                runnable.run();
+            }
+        }
+    }
+}
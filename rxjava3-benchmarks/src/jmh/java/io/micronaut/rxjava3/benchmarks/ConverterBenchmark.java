@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.benchmarks;
+
+import io.micronaut.core.convert.MutableConversionService;
+import io.micronaut.rxjava3.converters.RxJava3ConverterRegistrar;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Single;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per call cost of the converters registered by {@link RxJava3ConverterRegistrar},
+ * including subscribing to the converted type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConverterBenchmark {
+
+    @Param({"1", "1000"})
+    int size;
+
+    private MutableConversionService conversionService;
+    private Publisher<Integer> publisher;
+    private Observable<Integer> observable;
+
+    @Setup
+    public void setup() {
+        conversionService = MutableConversionService.create();
+        new RxJava3ConverterRegistrar().register(conversionService);
+        Flowable<Integer> range = Flowable.range(0, size);
+        publisher = subscriber -> range.subscribe(subscriber);
+        observable = Observable.range(0, size);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void publisherToFlowable(Blackhole blackhole) {
+        conversionService.convertRequired(publisher, Flowable.class).subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object publisherToSingle(SingleElement source) {
+        return conversionService.convertRequired(source.publisher, Single.class).blockingGet();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object publisherToMaybe(SingleElement source) {
+        return conversionService.convertRequired(source.publisher, Maybe.class).blockingGet();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void observableToPublisher(Blackhole blackhole) {
+        Flowable.fromPublisher(conversionService.convertRequired(observable, Publisher.class))
+                .subscribe(blackhole::consume);
+    }
+
+    /**
+     * A one element source for the {@link Single} and {@link Maybe} conversions, which reject a
+     * publisher emitting more than one item regardless of the {@code size} parameter.
+     */
+    @State(Scope.Benchmark)
+    public static class SingleElement {
+
+        Publisher<Integer> publisher;
+
+        @Setup
+        public void setup() {
+            Flowable<Integer> just = Flowable.just(1);
+            publisher = subscriber -> just.subscribe(subscriber);
+        }
+    }
+}
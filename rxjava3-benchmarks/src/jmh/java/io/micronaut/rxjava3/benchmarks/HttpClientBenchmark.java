@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.rxjava3.http.client.Rx3StreamingHttpClient;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.reactivex.rxjava3.core.Flowable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the RxJava 3 HTTP client bridges against an in-process server, comparing them with
+ * consuming the publishers of the underlying {@link HttpClient} directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HttpClientBenchmark {
+
+    private static final Argument<BenchmarkController.Item> ITEM = Argument.of(BenchmarkController.Item.class);
+
+    private EmbeddedServer server;
+    private HttpClient httpClient;
+    private Rx3StreamingHttpClient rx3HttpClient;
+
+    @Setup
+    public void setup() {
+        server = ApplicationContext.run(EmbeddedServer.class, Collections.singletonMap("micronaut.server.port", -1));
+        httpClient = HttpClient.create(server.getURL());
+        rx3HttpClient = Rx3StreamingHttpClient.create(server.getURL());
+    }
+
+    @TearDown
+    public void tearDown() {
+        rx3HttpClient.close();
+        httpClient.close();
+        server.close();
+    }
+
+    @Benchmark
+    public Object retrieveUnderlying() {
+        return Flowable.fromPublisher(httpClient.retrieve(HttpRequest.GET("/bench/item"), ITEM)).blockingFirst();
+    }
+
+    @Benchmark
+    public Object retrieveBridged() {
+        return rx3HttpClient.retrieve(HttpRequest.GET("/bench/item"), ITEM).blockingFirst();
+    }
+
+    @Benchmark
+    public Object retrieveSingle() {
+        return rx3HttpClient.retrieveSingle(HttpRequest.GET("/bench/item"), ITEM).blockingGet();
+    }
+
+    @Benchmark
+    public Object retrieveFirstOrError() {
+        return rx3HttpClient.retrieve(HttpRequest.GET("/bench/item"), ITEM).firstOrError().blockingGet();
+    }
+
+    @Benchmark
+    public Object exchangeSingle() {
+        return rx3HttpClient.exchangeSingle(HttpRequest.GET("/bench/text"), String.class).blockingGet();
+    }
+
+    @Benchmark
+    public Object exchangeBridged() {
+        return rx3HttpClient.exchange(HttpRequest.GET("/bench/text"), String.class).blockingFirst();
+    }
+
+    @Benchmark
+    public void jsonStreamBridged(Blackhole blackhole) {
+        rx3HttpClient.jsonStream(HttpRequest.GET("/bench/items"), ITEM).blockingSubscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void jsonStreamBatchedBridged(Blackhole blackhole) {
+        rx3HttpClient.jsonStreamBatched(HttpRequest.GET("/bench/items"), ITEM, 256, null).blockingSubscribe(blackhole::consume);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.core.propagation.PropagatedContextElement;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the schedule handler installed by the RxJava 3 instrumentation, both in isolation and
+ * when scheduling work on the computation scheduler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstrumentationBenchmark {
+
+    @Param({"true", "false"})
+    boolean instrumented;
+
+    @Param({"true", "false"})
+    boolean withContext;
+
+    private final Runnable task = () -> { };
+    private ApplicationContext applicationContext;
+    private PropagatedContext context;
+
+    @Setup
+    public void setup() {
+        if (instrumented) {
+            applicationContext = ApplicationContext.run();
+        }
+        context = withContext ? PropagatedContext.getOrEmpty().plus(new BenchmarkContextElement()) : PropagatedContext.empty();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (applicationContext != null) {
+            applicationContext.close();
+        }
+    }
+
+    @Benchmark
+    public Runnable onSchedule() {
+        try (PropagatedContext.Scope ignore = context.propagate()) {
+            return RxJavaPlugins.onSchedule(task);
+        }
+    }
+
+    @Benchmark
+    public void subscribeOnComputation() {
+        try (PropagatedContext.Scope ignore = context.propagate()) {
+            Completable.fromRunnable(task)
+                    .subscribeOn(Schedulers.computation())
+                    .blockingAwait();
+        }
+    }
+
+    /**
+     * Marker element so that the propagated context is not empty.
+     */
+    static final class BenchmarkContextElement implements PropagatedContextElement {
+    }
+}
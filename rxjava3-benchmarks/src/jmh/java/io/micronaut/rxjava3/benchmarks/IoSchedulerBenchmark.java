@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.benchmarks;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the stock io scheduler with a scheduler backed by virtual threads, as installed with
+ * {@code rxjava3.schedulers.io.virtual-threads}, for bursts of blocking tasks. Besides the latency of a burst the
+ * peak number of live platform threads is reported. Requires JDK 21.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IoSchedulerBenchmark {
+
+    @Param({"io", "virtual"})
+    String scheduler;
+
+    @Param({"100", "2000"})
+    int concurrency;
+
+    private ExecutorService executor;
+    private Scheduler rxScheduler;
+
+    @Setup
+    public void setup() throws Exception {
+        if ("virtual".equals(scheduler)) {
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            rxScheduler = Schedulers.from(executor, true);
+        } else {
+            rxScheduler = Schedulers.io();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void blockingBurst(ThreadCounters counters) {
+        Flowable.range(0, concurrency)
+                .flatMapCompletable(i -> Completable.fromAction(() -> Thread.sleep(1)).subscribeOn(rxScheduler), false, concurrency)
+                .blockingAwait();
+        counters.sample();
+    }
+
+    /**
+     * Reports the peak number of live platform threads during an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadCounters {
+
+        public long peakThreads;
+
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            threads.resetPeakThreadCount();
+            peakThreads = 0;
+        }
+
+        void sample() {
+            peakThreads = Math.max(peakThreads, threads.getPeakThreadCount());
+        }
+    }
+}
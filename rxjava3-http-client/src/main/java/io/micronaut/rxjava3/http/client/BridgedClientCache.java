@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the RxJava 3 wrappers created by the client factories, so that resolving the same client again returns the
+ * same wrapper instead of allocating a new one and resolving its options again. Wrappers are keyed on the identity of
+ * the underlying client, as returned by the client registry, and on the options of the wrapper. They are held as long
+ * as the factory, like the clients held by the registry: a wrapper carries the state of its pipeline, such as the
+ * circuit breaker, the concurrency limit or the response cache, which must survive between two injections of the
+ * same client.
+ *
+ * @param <W> The wrapper type
+ * @since 3.6.0
+ */
+@Internal
+public final class BridgedClientCache<W> {
+
+    private final Map<Key, W> wrappers = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the wrapper of the given client, creating it if needed.
+     *
+     * @param client  The underlying client
+     * @param options The options of the wrapper, compared with {@link Object#equals(Object)}, if any
+     * @param factory Creates the wrapper
+     * @return The wrapper
+     */
+    @NonNull
+    public W get(@NonNull Object client, @Nullable Object options, @NonNull Supplier<W> factory) {
+        return wrappers.computeIfAbsent(new Key(client, options), k -> factory.get());
+    }
+
+    /**
+     * @return The number of cached wrappers
+     */
+    int size() {
+        return wrappers.size();
+    }
+
+    /**
+     * Identifies a wrapper by the identity of its client and its options.
+     */
+    private static final class Key {
+
+        private final Object client;
+        private final Object options;
+
+        Key(Object client, @Nullable Object options) {
+            this.client = client;
+            this.options = options;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && client == other.client && Objects.equals(options, other.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(client) + Objects.hashCode(options);
+        }
+    }
+}
@@ -24,6 +24,11 @@ import io.micronaut.http.HttpResponse;
 import io.micronaut.http.client.BlockingHttpClient;
 import io.micronaut.http.client.HttpClient;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+import org.reactivestreams.Publisher;
+
+import java.util.Optional;
 
 /**
  * Internal bridge for the HTTP client.
@@ -35,13 +40,23 @@ import io.reactivex.rxjava3.core.Flowable;
 class BridgedRx3HttpClient implements Rx3HttpClient {
 
     private final HttpClient httpClient;
+    private final Rx3ClientPipeline pipeline;
 
     /**
      * Default constructor.
      * @param httpClient HTTP Client
      */
     BridgedRx3HttpClient(HttpClient httpClient) {
+        this(httpClient, Rx3ClientPipeline.NONE);
+    }
+
+    /**
+     * @param httpClient HTTP Client
+     * @param pipeline   The steps applied to the publishers of the client
+     */
+    BridgedRx3HttpClient(HttpClient httpClient, Rx3ClientPipeline pipeline) {
         this.httpClient = httpClient;
+        this.pipeline = pipeline;
     }
 
     @Override
@@ -51,57 +66,98 @@ class BridgedRx3HttpClient implements Rx3HttpClient {
 
     @Override
     public <I, O, E> Flowable<HttpResponse<O>> exchange(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType, @NonNull Argument<E> errorType) {
-        return Flowable.fromPublisher(httpClient.exchange(request, bodyType, errorType));
+        return bridge(request, httpClient.exchange(request, bodyType, pipeline.errorType(errorType)));
     }
 
     @Override
     public <I, O> Flowable<HttpResponse<O>> exchange(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType) {
-        return Flowable.fromPublisher(httpClient.exchange(request, bodyType));
+        return exchange(request, bodyType, DEFAULT_ERROR_TYPE);
     }
 
     @Override
     public <I, O, E> Flowable<O> retrieve(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType, @NonNull Argument<E> errorType) {
-        return Flowable.fromPublisher(httpClient.retrieve(request, bodyType));
+        return Flowable.fromPublisher(pipeline.retrieve(httpClient, request, bodyType, errorType));
     }
 
     @Override
     public <I> Flowable<HttpResponse<ByteBuffer>> exchange(@NonNull HttpRequest<I> request) {
-        return Flowable.fromPublisher(httpClient.exchange(request));
+        return exchange(request, ByteBuffer.class);
     }
 
     @Override
     public Flowable<HttpResponse<ByteBuffer>> exchange(@NonNull String uri) {
-        return Flowable.fromPublisher(httpClient.exchange(uri));
+        return exchange(HttpRequest.GET(uri));
     }
 
     @Override
     public <O> Flowable<HttpResponse<O>> exchange(@NonNull String uri, @NonNull Class<O> bodyType) {
-        return Flowable.fromPublisher(httpClient.exchange(uri, bodyType));
+        return exchange(HttpRequest.GET(uri), bodyType);
     }
 
     @Override
     public <I, O> Flowable<HttpResponse<O>> exchange(@NonNull HttpRequest<I> request, @NonNull Class<O> bodyType) {
-        return Flowable.fromPublisher(httpClient.exchange(request, bodyType));
+        return exchange(request, Argument.of(bodyType), DEFAULT_ERROR_TYPE);
     }
 
     @Override
     public <I, O> Flowable<O> retrieve(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType) {
-        return Flowable.fromPublisher(httpClient.retrieve(request, bodyType));
+        return retrieve(request, bodyType, DEFAULT_ERROR_TYPE);
     }
 
     @Override
     public <I, O> Flowable<O> retrieve(@NonNull HttpRequest<I> request, @NonNull Class<O> bodyType) {
-        return Flowable.fromPublisher(httpClient.retrieve(request, bodyType));
+        return retrieve(request, Argument.of(bodyType), DEFAULT_ERROR_TYPE);
     }
 
     @Override
     public <I> Flowable<String> retrieve(@NonNull HttpRequest<I> request) {
-        return Flowable.fromPublisher(httpClient.retrieve(request));
+        return retrieve(request, Argument.STRING, DEFAULT_ERROR_TYPE);
     }
 
     @Override
     public Flowable<String> retrieve(@NonNull String uri) {
-        return Flowable.fromPublisher(httpClient.retrieve(uri));
+        return retrieve(HttpRequest.GET(uri));
+    }
+
+    @Override
+    public <I, O, E> Single<HttpResponse<O>> exchangeSingle(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType, @NonNull Argument<E> errorType) {
+        return Single.fromPublisher(pipeline.apply(request, httpClient.exchange(request, bodyType, pipeline.errorType(errorType))));
+    }
+
+    @Override
+    public <I, O, E> Single<O> retrieveSingle(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType, @NonNull Argument<E> errorType) {
+        return Single.fromPublisher(pipeline.retrieve(httpClient, request, bodyType, errorType));
+    }
+
+    @Override
+    public <I, O, E> Maybe<O> retrieveMaybe(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType, @NonNull Argument<E> errorType) {
+        return Maybe.fromPublisher(pipeline.retrieve(httpClient, request, bodyType, errorType))
+                .onErrorComplete(ClientErrors::isNotFound);
+    }
+
+    @Override
+    public Optional<ResponseCacheStatistics> getCacheStatistics() {
+        return Optional.ofNullable(pipeline.cacheStatistics());
+    }
+
+    @Override
+    public Optional<ConcurrencyLimitStatistics> getConcurrencyLimitStatistics() {
+        return Optional.ofNullable(pipeline.concurrencyLimitStatistics());
+    }
+
+    @Override
+    public Optional<RetryStatistics> getRetryStatistics() {
+        return Optional.ofNullable(pipeline.retryStatistics());
+    }
+
+    @Override
+    public Optional<CircuitBreakerStatistics> getCircuitBreakerStatistics() {
+        return Optional.ofNullable(pipeline.circuitBreakerStatistics());
+    }
+
+    @Override
+    public Optional<RateLimiterStatistics> getRateLimiterStatistics() {
+        return Optional.ofNullable(pipeline.rateLimiterStatistics());
     }
 
     @Override
@@ -127,4 +183,48 @@ class BridgedRx3HttpClient implements Rx3HttpClient {
         httpClient.stop();
         return this;
     }
+
+    /**
+     * Exposes a publisher of the underlying client as a {@link Flowable}, applying the client pipeline.
+     *
+     * @param request   The request
+     * @param publisher The publisher of the underlying client
+     * @param <T>       The element type
+     * @return The flowable
+     */
+    final <T> Flowable<T> bridge(HttpRequest<?> request, Publisher<T> publisher) {
+        return Flowable.fromPublisher(pipeline.apply(request, publisher));
+    }
+
+    /**
+     * Exposes a streaming publisher of the underlying client as a {@link Flowable}, applying the client pipeline.
+     *
+     * @param request   The request
+     * @param publisher The publisher of the underlying client
+     * @param <T>       The element type
+     * @return The flowable
+     */
+    final <T> Flowable<T> bridgeStream(HttpRequest<?> request, Publisher<T> publisher) {
+        return Flowable.fromPublisher(pipeline.applyStream(request, publisher));
+    }
+
+    /**
+     * Exposes a streaming publisher of network buffers, or of responses holding them, as a {@link Flowable},
+     * applying the client pipeline.
+     *
+     * @param request   The request
+     * @param publisher The publisher of the underlying client
+     * @param <T>       The element type
+     * @return The flowable
+     */
+    final <T> Flowable<T> bridgeBufferStream(HttpRequest<?> request, Publisher<T> publisher) {
+        return Flowable.fromPublisher(pipeline.applyBufferStream(request, publisher));
+    }
+
+    /**
+     * @return The steps applied to the publishers of the client
+     */
+    final Rx3ClientPipeline pipeline() {
+        return pipeline;
+    }
 }
@@ -17,14 +17,19 @@ package io.micronaut.rxjava3.http.client;
 
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.client.StreamingHttpClient;
+import io.micronaut.json.JsonMapper;
 import io.reactivex.rxjava3.core.Flowable;
 import org.reactivestreams.Publisher;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -37,53 +42,75 @@ import java.util.Map;
 class BridgedRx3StreamingHttpClient extends BridgedRx3HttpClient implements Rx3StreamingHttpClient {
 
     private final StreamingHttpClient streamingHttpClient;
+    private final JsonMapper jsonMapper;
 
     /**
      * Default constructor.
      * @param streamingHttpClient Streaming HTTP Client
      */
     BridgedRx3StreamingHttpClient(StreamingHttpClient streamingHttpClient) {
-        super(streamingHttpClient);
+        this(streamingHttpClient, Rx3ClientPipeline.NONE, null);
+    }
+
+    /**
+     * @param streamingHttpClient Streaming HTTP Client
+     * @param pipeline            The steps applied to the publishers of the client
+     * @param jsonMapper          The mapper of the application encoding and decoding streamed JSON bodies, if any
+     */
+    BridgedRx3StreamingHttpClient(StreamingHttpClient streamingHttpClient, Rx3ClientPipeline pipeline, @Nullable JsonMapper jsonMapper) {
+        super(streamingHttpClient, pipeline);
         this.streamingHttpClient = streamingHttpClient;
+        this.jsonMapper = jsonMapper;
     }
 
     @Override
     public <I> Flowable<ByteBuffer<?>> dataStream(@NonNull HttpRequest<I> request) {
-        return Flowable.fromPublisher(streamingHttpClient.dataStream(request));
+        return bridgeBufferStream(request, streamingHttpClient.dataStream(request, pipeline().errorType(DEFAULT_ERROR_TYPE)));
     }
 
     @Override
     public <I> Publisher<ByteBuffer<?>> dataStream(@NonNull HttpRequest<I> request, @NonNull Argument<?> errorType) {
-        return Flowable.fromPublisher(streamingHttpClient.dataStream(request, errorType));
+        return bridgeBufferStream(request, streamingHttpClient.dataStream(request, pipeline().errorType(errorType)));
     }
 
     @Override
     public <I> Flowable<HttpResponse<ByteBuffer<?>>> exchangeStream(@NonNull HttpRequest<I> request) {
-        return Flowable.fromPublisher(streamingHttpClient.exchangeStream(request));
+        return bridgeBufferStream(request, streamingHttpClient.exchangeStream(request, pipeline().errorType(DEFAULT_ERROR_TYPE)));
     }
 
     @Override
     public <I> Publisher<HttpResponse<ByteBuffer<?>>> exchangeStream(@NonNull HttpRequest<I> request, @NonNull Argument<?> errorType) {
-        return Flowable.fromPublisher(streamingHttpClient.exchangeStream(request, errorType));
+        return bridgeBufferStream(request, streamingHttpClient.exchangeStream(request, pipeline().errorType(errorType)));
     }
 
     @Override
     public <I> Flowable<Map<String, Object>> jsonStream(@NonNull HttpRequest<I> request) {
-        return Flowable.fromPublisher(streamingHttpClient.jsonStream(request));
+        return bridgeStream(request, streamingHttpClient.jsonStream(request));
     }
 
     @Override
     public <I, O> Flowable<O> jsonStream(@NonNull HttpRequest<I> request, @NonNull Argument<O> type) {
-        return Flowable.fromPublisher(streamingHttpClient.jsonStream(request, type));
+        return bridgeStream(request, streamingHttpClient.jsonStream(request, type, pipeline().errorType(DEFAULT_ERROR_TYPE)));
     }
 
     @Override
     public <I, O> Publisher<O> jsonStream(@NonNull HttpRequest<I> request, @NonNull Argument<O> type, @NonNull Argument<?> errorType) {
-        return Flowable.fromPublisher(streamingHttpClient.jsonStream(request, type, errorType));
+        return bridgeStream(request, streamingHttpClient.jsonStream(request, type, pipeline().errorType(errorType)));
     }
 
     @Override
     public <I, O> Flowable<O> jsonStream(@NonNull HttpRequest<I> request, @NonNull Class<O> type) {
-        return Flowable.fromPublisher(streamingHttpClient.jsonStream(request, type));
+        return bridgeStream(request, streamingHttpClient.jsonStream(request, Argument.of(type), pipeline().errorType(DEFAULT_ERROR_TYPE)));
+    }
+
+    @Override
+    public <I, O> Flowable<List<O>> jsonStreamBatched(@NonNull HttpRequest<I> request, @NonNull Argument<O> type, int maxBatchSize, @Nullable Duration maxDelay) {
+        Publisher<ByteBuffer<?>> chunks = streamingHttpClient.dataStream(request, pipeline().errorType(DEFAULT_ERROR_TYPE));
+        return bridgeStream(request, JsonChunkDecoder.decodeBatched(chunks, type, jsonMapper, maxBatchSize, maxDelay));
+    }
+
+    @Override
+    public <T, O> Flowable<HttpResponse<O>> exchangeNdjson(@NonNull MutableHttpRequest<?> request, @NonNull Flowable<T> elements, @NonNull Argument<O> bodyType) {
+        return exchange(HttpRequestCopy.of(request).contentType(NdjsonEncoder.NDJSON).body(NdjsonEncoder.encode(elements, jsonMapper)), bodyType);
     }
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.core.SingleObserver;
+import io.reactivex.rxjava3.disposables.Disposable;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes a stream of {@link DataChunk} to a channel, see {@link DataChunk#writeTo(WritableByteChannel, Scheduler)}.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class ChannelWriteSingle extends Single<Long> {
+
+    private static final int PREFETCH = 16;
+
+    private final Flowable<DataChunk> source;
+    private final WritableByteChannel channel;
+    private final Scheduler scheduler;
+
+    ChannelWriteSingle(Flowable<DataChunk> source, WritableByteChannel channel, Scheduler scheduler) {
+        this.source = source;
+        this.channel = channel;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(SingleObserver<? super Long> observer) {
+        source.subscribe(new WriteSubscriber(observer, channel, scheduler != null ? scheduler.createWorker() : null));
+    }
+
+    /**
+     * Queues the chunks and drains them to the channel, at most {@link #PREFETCH} outstanding at a time. Once the
+     * subscriber terminates, every chunk still queued or arriving late is released.
+     */
+    private static final class WriteSubscriber extends AtomicInteger implements FlowableSubscriber<DataChunk>, Disposable, Runnable {
+
+        private final SingleObserver<? super Long> downstream;
+        private final WritableByteChannel channel;
+        private final Scheduler.Worker worker;
+        private final Queue<DataChunk> queue = new ConcurrentLinkedQueue<>();
+        private final int limit = PREFETCH - (PREFETCH >> 2);
+        private final ByteBuffer[] gather;
+        private final DataChunk[] batch;
+
+        private Subscription upstream;
+        private volatile boolean done;
+        private volatile boolean terminated;
+        private Throwable error;
+        private long written;
+        private int consumed;
+
+        WriteSubscriber(SingleObserver<? super Long> downstream, WritableByteChannel channel, Scheduler.Worker worker) {
+            this.downstream = downstream;
+            this.channel = channel;
+            this.worker = worker;
+            this.gather = channel instanceof GatheringByteChannel ? new ByteBuffer[PREFETCH] : null;
+            this.batch = new DataChunk[gather != null ? PREFETCH : 1];
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            upstream = s;
+            downstream.onSubscribe(this);
+            s.request(PREFETCH);
+        }
+
+        @Override
+        public void onNext(DataChunk chunk) {
+            if (terminated) {
+                chunk.release();
+                return;
+            }
+            queue.offer(chunk);
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void dispose() {
+            if (!terminated) {
+                terminated = true;
+                upstream.cancel();
+                schedule();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return terminated;
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for (;;) {
+                drain();
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void schedule() {
+            if (getAndIncrement() == 0) {
+                if (worker != null && !terminated) {
+                    worker.schedule(this);
+                } else {
+                    run();
+                }
+            }
+        }
+
+        private void drain() {
+            for (;;) {
+                if (terminated) {
+                    if (worker != null) {
+                        worker.dispose();
+                    }
+                    releaseQueued();
+                    return;
+                }
+                boolean isDone = done;
+                int count = 0;
+                DataChunk chunk;
+                while (count < batch.length && (chunk = queue.poll()) != null) {
+                    batch[count++] = chunk;
+                }
+                if (count == 0) {
+                    if (isDone) {
+                        terminate();
+                        Throwable e = error;
+                        if (e != null) {
+                            downstream.onError(e);
+                        } else {
+                            downstream.onSuccess(written);
+                        }
+                    }
+                    return;
+                }
+                try {
+                    written += gather != null ? write((GatheringByteChannel) channel, count) : write(batch[0]);
+                } catch (IOException | RuntimeException e) {
+                    terminate();
+                    upstream.cancel();
+                    releaseQueued();
+                    downstream.onError(e);
+                    return;
+                } finally {
+                    for (int i = 0; i < count; i++) {
+                        batch[i].release();
+                        batch[i] = null;
+                    }
+                }
+                consumed += count;
+                if (consumed >= limit) {
+                    upstream.request(consumed);
+                    consumed = 0;
+                }
+            }
+        }
+
+        private long write(DataChunk chunk) throws IOException {
+            ByteBuffer nio = chunk.buffer().asNioBuffer();
+            long total = nio.remaining();
+            while (nio.hasRemaining()) {
+                channel.write(nio);
+            }
+            return total;
+        }
+
+        private long write(GatheringByteChannel channel, int count) throws IOException {
+            long remaining = 0;
+            for (int i = 0; i < count; i++) {
+                gather[i] = batch[i].buffer().asNioBuffer();
+                remaining += gather[i].remaining();
+            }
+            long total = remaining;
+            int offset = 0;
+            try {
+                while (remaining > 0) {
+                    remaining -= channel.write(gather, offset, count - offset);
+                    while (offset < count && !gather[offset].hasRemaining()) {
+                        offset++;
+                    }
+                }
+            } finally {
+                for (int i = 0; i < count; i++) {
+                    gather[i] = null;
+                }
+            }
+            return total;
+        }
+
+        private void terminate() {
+            terminated = true;
+            if (worker != null) {
+                worker.dispose();
+            }
+        }
+
+        private void releaseQueued() {
+            DataChunk chunk;
+            while ((chunk = queue.poll()) != null) {
+                chunk.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.reactivex.rxjava3.core.Flowable;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free circuit breaker, see {@link Rx3HttpClientConfiguration.CircuitBreakerConfiguration}. The state is an
+ * immutable {@link Window} swapped with compare-and-set: failures are counted over tumbling windows of calls, the
+ * breaker opens when the failure rate of a window crosses the threshold, lets a few probe requests through once the
+ * open duration elapsed, and closes again when they all succeed.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class CircuitBreaker implements CircuitBreakerStatistics {
+
+    private static final int STATES = State.values().length;
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final int windowSize;
+    private final long openDurationNanos;
+    private final int probes;
+    private final LongSupplier clock;
+    private final AtomicReference<Window> window = new AtomicReference<>(Window.CLOSED);
+    private final LongAdder shortCircuited = new LongAdder();
+    private final AtomicLongArray transitions = new AtomicLongArray(STATES);
+
+    /**
+     * @param configuration The configuration
+     * @param clock         The clock, in nanoseconds
+     */
+    CircuitBreaker(Rx3HttpClientConfiguration.CircuitBreakerConfiguration configuration, LongSupplier clock) {
+        this.failureRateThreshold = configuration.getFailureRateThreshold() / 100;
+        this.minimumCalls = configuration.getMinimumCalls();
+        this.windowSize = Math.max(minimumCalls, configuration.getWindowSize());
+        this.openDurationNanos = configuration.getOpenDuration().toNanos();
+        this.probes = configuration.getProbes();
+        this.clock = clock;
+    }
+
+    @Override
+    public State getState() {
+        return window.get().state;
+    }
+
+    @Override
+    public long getShortCircuited() {
+        return shortCircuited.sum();
+    }
+
+    @Override
+    public long getTransitions(State state) {
+        return transitions.get(state.ordinal());
+    }
+
+    /**
+     * Sends the calls of the given publisher through the circuit breaker.
+     *
+     * @param publisher The cold publisher of the underlying client
+     * @param <T>       The element type
+     * @return The publisher failing with a {@link CircuitOpenException} while the circuit is open
+     */
+    <T> Publisher<T> apply(Publisher<T> publisher) {
+        return Flowable.defer(() -> {
+            Window permitted = acquire();
+            if (permitted == null) {
+                shortCircuited.increment();
+                return Flowable.error(new CircuitOpenException(getState()));
+            }
+            boolean probe = permitted.state == State.HALF_OPEN;
+            boolean[] recorded = new boolean[1];
+            return Flowable.fromPublisher(publisher)
+                    .doOnComplete(() -> {
+                        recorded[0] = true;
+                        record(probe, true);
+                    })
+                    .doOnError(error -> {
+                        if (!(error instanceof RequestRejectedException)) {
+                            recorded[0] = true;
+                            record(probe, !isFailure(error));
+                        }
+                    })
+                    .doFinally(() -> {
+                        if (probe && !recorded[0]) {
+                            releaseProbe();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * @return The window the call is permitted in, or {@code null} if it is rejected
+     */
+    private Window acquire() {
+        while (true) {
+            Window current = window.get();
+            Window next;
+            switch (current.state) {
+                case CLOSED:
+                    return current;
+                case OPEN:
+                    if (clock.getAsLong() - current.openedAt < openDurationNanos) {
+                        return null;
+                    }
+                    next = new Window(State.HALF_OPEN, 0, 0, 0, 1);
+                    break;
+                default:
+                    if (current.probes >= probes) {
+                        return null;
+                    }
+                    next = new Window(State.HALF_OPEN, current.calls, 0, 0, current.probes + 1);
+                    break;
+            }
+            if (window.compareAndSet(current, next)) {
+                transitioned(current, next);
+                return next;
+            }
+        }
+    }
+
+    private void record(boolean probe, boolean success) {
+        while (true) {
+            Window current = window.get();
+            Window next;
+            if (current.state == State.CLOSED) {
+                if (probe) {
+                    return;
+                }
+                int calls = current.calls + 1;
+                int failures = current.failures + (success ? 0 : 1);
+                if (calls >= minimumCalls && failures >= failureRateThreshold * calls) {
+                    next = new Window(State.OPEN, 0, 0, clock.getAsLong(), 0);
+                } else if (calls >= windowSize) {
+                    next = Window.CLOSED;
+                } else {
+                    next = new Window(State.CLOSED, calls, failures, 0, 0);
+                }
+            } else if (current.state == State.HALF_OPEN && probe) {
+                if (!success) {
+                    next = new Window(State.OPEN, 0, 0, clock.getAsLong(), 0);
+                } else if (current.calls + 1 >= probes) {
+                    next = Window.CLOSED;
+                } else {
+                    // in the half-open state, calls counts the successful probes
+                    next = new Window(State.HALF_OPEN, current.calls + 1, 0, 0, current.probes);
+                }
+            } else {
+                // a late outcome of a call permitted in a previous state
+                return;
+            }
+            if (window.compareAndSet(current, next)) {
+                transitioned(current, next);
+                return;
+            }
+        }
+    }
+
+    private void releaseProbe() {
+        while (true) {
+            Window current = window.get();
+            if (current.state != State.HALF_OPEN || current.probes == 0) {
+                return;
+            }
+            Window next = new Window(State.HALF_OPEN, current.calls, 0, 0, current.probes - 1);
+            if (window.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private void transitioned(Window previous, Window next) {
+        if (previous.state != next.state) {
+            transitions.incrementAndGet(next.state.ordinal());
+        }
+    }
+
+    private static boolean isFailure(Throwable error) {
+        if (error instanceof HttpClientResponseException responseException) {
+            // the server answered: only its own errors count
+            return responseException.getStatus().getCode() >= 500;
+        }
+        // timeouts and connection failures
+        return true;
+    }
+
+    /**
+     * An immutable state of the circuit breaker.
+     *
+     * @param state    The state
+     * @param calls    The calls of the current window when closed, the successful probes when half-open
+     * @param failures The failed calls of the current window when closed
+     * @param openedAt When the circuit opened
+     * @param probes   The probes in flight or completed when half-open
+     */
+    private record Window(State state, int calls, int failures, long openedAt, int probes) {
+
+        static final Window CLOSED = new Window(State.CLOSED, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+/**
+ * Current state of the circuit breaker of a client, see {@link Rx3HttpClientConfiguration.CircuitBreakerConfiguration}.
+ *
+ * @since 3.6.0
+ */
+public interface CircuitBreakerStatistics {
+
+    /**
+     * @return The current state
+     */
+    State getState();
+
+    /**
+     * @return The number of requests rejected without being sent since the client was created
+     */
+    long getShortCircuited();
+
+    /**
+     * @param state A state
+     * @return The number of times the circuit breaker entered the given state since the client was created
+     */
+    long getTransitions(State state);
+
+    /**
+     * The states of a circuit breaker.
+     */
+    enum State {
+
+        /**
+         * Requests are sent, and their failures counted.
+         */
+        CLOSED,
+
+        /**
+         * Requests are rejected without being sent.
+         */
+        OPEN,
+
+        /**
+         * A few probe requests are sent to find out whether the server recovered.
+         */
+        HALF_OPEN
+    }
+}
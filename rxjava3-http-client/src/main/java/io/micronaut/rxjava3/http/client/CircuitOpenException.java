@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+/**
+ * Signals that a request was rejected without being sent, because the circuit breaker of the client is open, see
+ * {@link Rx3HttpClientConfiguration.CircuitBreakerConfiguration}.
+ *
+ * @since 3.6.0
+ */
+public final class CircuitOpenException extends RequestRejectedException {
+
+    /**
+     * @param state The state of the circuit breaker when the request was rejected
+     */
+    public CircuitOpenException(CircuitBreakerStatistics.State state) {
+        super("Request rejected: the circuit breaker is " + state);
+    }
+}
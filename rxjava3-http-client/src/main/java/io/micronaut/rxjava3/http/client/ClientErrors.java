@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+
+/**
+ * Classifies the errors of the client calls.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class ClientErrors {
+
+    private ClientErrors() {
+    }
+
+    /**
+     * @param error The error
+     * @return Whether the error is a response with the {@link HttpStatus#NOT_FOUND} status
+     */
+    static boolean isNotFound(Throwable error) {
+        return error instanceof HttpClientResponseException responseException
+                && responseException.getStatus() == HttpStatus.NOT_FOUND;
+    }
+}
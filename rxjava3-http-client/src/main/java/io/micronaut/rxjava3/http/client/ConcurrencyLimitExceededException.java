@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+/**
+ * Signals that a request was rejected without being sent, because the concurrency limit of the client was reached
+ * and no more requests could be queued, see {@link Rx3HttpClientConfiguration.ConcurrencyLimitConfiguration}.
+ *
+ * @since 3.6.0
+ */
+public final class ConcurrencyLimitExceededException extends RequestRejectedException {
+
+    /**
+     * @param limit The concurrency limit when the request was rejected
+     */
+    public ConcurrencyLimitExceededException(int limit) {
+        super("Request rejected: the concurrency limit of " + limit + " requests in flight is reached");
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+/**
+ * Current state of the adaptive concurrency limit of a client, see
+ * {@link Rx3HttpClientConfiguration.ConcurrencyLimitConfiguration}.
+ *
+ * @since 3.6.0
+ */
+public interface ConcurrencyLimitStatistics {
+
+    /**
+     * @return The current number of requests allowed in flight
+     */
+    int getLimit();
+
+    /**
+     * @return The number of requests in flight
+     */
+    int getInFlight();
+
+    /**
+     * @return The number of requests waiting for a slot
+     */
+    int getQueued();
+
+    /**
+     * @return The number of requests rejected since the client was created
+     */
+    long getRejected();
+}
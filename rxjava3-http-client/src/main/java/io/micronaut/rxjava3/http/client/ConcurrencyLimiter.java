@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientException;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.http.client.exceptions.ReadTimeoutException;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.core.SingleEmitter;
+import org.reactivestreams.Publisher;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Adaptive limit of the requests a client keeps in flight, using additive increase and multiplicative decrease, see
+ * {@link Rx3HttpClientConfiguration.ConcurrencyLimitConfiguration}. The limit grows by {@code 1 / limit} when a
+ * request succeeds quickly while the limit is in use, so by one per limit's worth of quick successes, and shrinks by
+ * the backoff ratio when a request is slow, times out, fails to connect, or is answered with {@code 429} or
+ * {@code 503}. Other errors release the slot without changing the limit. Requests over the limit wait in a bounded queue, or fail with a
+ * {@link ConcurrencyLimitExceededException} when the queue is full.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class ConcurrencyLimiter implements ConcurrencyLimitStatistics {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final int maxQueueSize;
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long rejected;
+
+    /**
+     * @param configuration The configuration
+     */
+    ConcurrencyLimiter(Rx3HttpClientConfiguration.ConcurrencyLimitConfiguration configuration) {
+        this.minLimit = configuration.getMinLimit();
+        this.maxLimit = Math.max(minLimit, configuration.getMaxLimit());
+        this.backoffRatio = configuration.getBackoffRatio();
+        this.latencyThresholdNanos = configuration.getLatencyThreshold().toNanos();
+        this.maxQueueSize = configuration.getMaxQueueSize();
+        this.limit = Math.min(maxLimit, Math.max(minLimit, configuration.getInitialLimit()));
+    }
+
+    @Override
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    @Override
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Limits the calls of the given publisher.
+     *
+     * @param publisher The cold publisher of the underlying client
+     * @param <T>       The element type
+     * @return The limited publisher
+     */
+    <T> Publisher<T> apply(Publisher<T> publisher) {
+        return Single.<Waiter>create(this::acquire).flatMapPublisher(waiter -> {
+            waiter.started.set(true);
+            long start = System.nanoTime();
+            boolean[] dropped = new boolean[1];
+            boolean[] completed = new boolean[1];
+            return Flowable.fromPublisher(publisher)
+                    .doOnError(error -> dropped[0] = isDropped(error))
+                    .doOnComplete(() -> completed[0] = true)
+                    .doFinally(() -> release(completed[0], dropped[0] || System.nanoTime() - start > latencyThresholdNanos));
+        });
+    }
+
+    private void acquire(SingleEmitter<Waiter> emitter) {
+        Waiter waiter = new Waiter(emitter);
+        boolean granted;
+        synchronized (this) {
+            granted = inFlight < (int) limit;
+            if (granted) {
+                inFlight++;
+            } else if (queue.size() < maxQueueSize) {
+                queue.add(waiter);
+            } else {
+                rejected++;
+                emitter.onError(new ConcurrencyLimitExceededException((int) limit));
+                return;
+            }
+        }
+        emitter.setCancellable(() -> cancel(waiter));
+        if (granted) {
+            emitter.onSuccess(waiter);
+        }
+    }
+
+    private void cancel(Waiter waiter) {
+        boolean release;
+        synchronized (this) {
+            release = !queue.remove(waiter) && !waiter.started.get();
+        }
+        if (release) {
+            // the slot was granted but the call never started
+            release(false, false);
+        }
+    }
+
+    private void release(boolean completed, boolean dropped) {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            int used = inFlight;
+            inFlight--;
+            if (dropped) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (completed && used * 2 >= (int) limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            while (inFlight < (int) limit && !queue.isEmpty()) {
+                inFlight++;
+                granted.add(queue.poll());
+            }
+        }
+        for (Waiter waiter : granted) {
+            waiter.emitter.onSuccess(waiter);
+        }
+    }
+
+    private static boolean isDropped(Throwable error) {
+        if (error instanceof HttpClientResponseException responseException) {
+            HttpStatus status = responseException.getStatus();
+            return status == HttpStatus.TOO_MANY_REQUESTS || status == HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        if (error instanceof ReadTimeoutException || error instanceof TimeoutException) {
+            return true;
+        }
+        // connection failures, raised as is or wrapped by the client; any other error says nothing about the load
+        Throwable cause = error instanceof HttpClientException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof IOException;
+    }
+
+    /**
+     * A request waiting for, or holding, a slot.
+     */
+    private static final class Waiter {
+
+        final SingleEmitter<Waiter> emitter;
+        final AtomicBoolean started = new AtomicBoolean();
+
+        Waiter(SingleEmitter<Waiter> emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.io.buffer.ReferenceCounted;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableConverter;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A read-only chunk of a streamed response body, emitted by {@link Rx3StreamingHttpClient#dataChunks(io.micronaut.http.HttpRequest)}.
+ *
+ * <p>A chunk exposes the memory of the underlying network buffer without copying it and owns one reference to that
+ * buffer. The subscriber receiving a chunk is responsible for calling {@link #release()} (or {@link #close()}) exactly
+ * once when done with it, including when it stops consuming; the buffer must not be accessed after that. Chunks
+ * handed to {@link #writeTo(WritableByteChannel)} are released by the writer.</p>
+ *
+ * @since 3.6.0
+ */
+public final class DataChunk implements AutoCloseable {
+
+    private static final AtomicIntegerFieldUpdater<DataChunk> RELEASED =
+            AtomicIntegerFieldUpdater.newUpdater(DataChunk.class, "released");
+
+    private final ByteBuffer<?> buffer;
+    @SuppressWarnings("unused")
+    private volatile int released;
+
+    /**
+     * @param buffer The buffer, the chunk takes over the reference held by the caller
+     */
+    DataChunk(@NonNull ByteBuffer<?> buffer) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer");
+    }
+
+    /**
+     * @return The number of readable bytes of the chunk
+     */
+    public int readableBytes() {
+        return buffer.readableBytes();
+    }
+
+    /**
+     * Returns a read-only NIO view of the readable bytes of the chunk. The view shares the memory of the chunk: it is
+     * only valid until the chunk is released.
+     *
+     * @return The read-only view
+     */
+    @NonNull
+    public java.nio.ByteBuffer asReadOnlyNioBuffer() {
+        return buffer.asNioBuffer().asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies the readable bytes of the chunk to a new array. Only use this when the data has to outlive the chunk.
+     *
+     * @return The copied bytes
+     */
+    @NonNull
+    public byte[] toByteArray() {
+        return buffer.toByteArray();
+    }
+
+    /**
+     * @return Whether the chunk has been released
+     */
+    public boolean isReleased() {
+        return released != 0;
+    }
+
+    /**
+     * Releases the reference to the underlying buffer. Calling this method more than once has no effect.
+     *
+     * @return Whether this call released the chunk
+     */
+    public boolean release() {
+        if (RELEASED.compareAndSet(this, 0, 1)) {
+            if (buffer instanceof ReferenceCounted referenceCounted) {
+                referenceCounted.release();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Same as {@link #release()}, for use in try-with-resources blocks.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
+    /**
+     * Returns a converter for {@link Flowable#to(FlowableConverter)} that writes the chunks to the given channel on the
+     * thread that emits them, releasing every chunk once written. Only use it with channels whose writes do not block
+     * the event loop for long, otherwise use {@link #writeTo(WritableByteChannel, Scheduler)}.
+     *
+     * @param channel The channel, in blocking mode
+     * @return The converter, emitting the number of bytes written
+     */
+    @NonNull
+    public static FlowableConverter<DataChunk, Single<Long>> writeTo(@NonNull WritableByteChannel channel) {
+        return writeTo(channel, null);
+    }
+
+    /**
+     * Returns a converter for {@link Flowable#to(FlowableConverter)} that writes the chunks to the given channel on the
+     * given scheduler, releasing every chunk once written, or when the write fails or is cancelled. When the channel
+     * is a {@link java.nio.channels.GatheringByteChannel} (for example a {@link java.nio.channels.FileChannel}), the
+     * chunks that are ready are written with a single gathering write. The channel is not closed.
+     *
+     * @param channel   The channel, in blocking mode
+     * @param scheduler The scheduler to write on, or {@code null} to write on the emitting thread
+     * @return The converter, emitting the number of bytes written
+     */
+    @NonNull
+    public static FlowableConverter<DataChunk, Single<Long>> writeTo(@NonNull WritableByteChannel channel, @Nullable Scheduler scheduler) {
+        Objects.requireNonNull(channel, "channel");
+        return upstream -> new ChannelWriteSingle(upstream, channel, scheduler);
+    }
+
+    /**
+     * @return The underlying buffer
+     */
+    ByteBuffer<?> buffer() {
+        return buffer;
+    }
+}
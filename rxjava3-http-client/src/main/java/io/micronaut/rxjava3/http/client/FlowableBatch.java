@@ -0,0 +1,338 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Collects the elements of a publisher into lists of at most {@code maxSize} elements (or {@code maxWeight} total
+ * weight), emitting a partial list once {@code maxDelay} has elapsed since its first element. Unlike {@link Flowable#buffer(long, TimeUnit, Scheduler, int)}
+ * the operator honours backpressure: it requests at most one list worth of elements ahead, and only while the
+ * downstream has outstanding demand, so a slow consumer never receives more lists than it asked for.
+ *
+ * @param <T> The element type
+ * @since 3.6.0
+ */
+@Internal
+public final class FlowableBatch<T> extends Flowable<List<T>> {
+
+    private final Publisher<T> source;
+    private final int maxSize;
+    private final long maxDelayNanos;
+    private final Scheduler scheduler;
+    private final ToLongFunction<? super T> weigher;
+    private final long maxWeight;
+
+    /**
+     * @param source        The source
+     * @param maxSize       The maximum number of elements per list
+     * @param maxDelayNanos The maximum time a partial list is held back, or {@code 0} to only emit full lists
+     * @param scheduler     The scheduler running the flush timer
+     */
+    public FlowableBatch(Publisher<T> source, int maxSize, long maxDelayNanos, Scheduler scheduler) {
+        this(source, maxSize, maxDelayNanos, scheduler, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param source        The source
+     * @param maxSize       The maximum number of elements per list
+     * @param maxDelayNanos The maximum time a partial list is held back, or {@code 0} to only emit full lists
+     * @param scheduler     The scheduler running the flush timer
+     * @param weigher       The weight of an element, or {@code null} to only limit the number of elements
+     * @param maxWeight     The total weight at which a list is emitted
+     */
+    public FlowableBatch(Publisher<T> source, int maxSize, long maxDelayNanos, Scheduler scheduler,
+                         ToLongFunction<? super T> weigher, long maxWeight) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.source = source;
+        this.maxSize = maxSize;
+        this.maxDelayNanos = maxDelayNanos;
+        this.scheduler = scheduler;
+        this.weigher = weigher;
+        this.maxWeight = maxWeight;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<? super List<T>> subscriber) {
+        source.subscribe(new BatchSubscriber<>(subscriber, maxSize, maxDelayNanos, maxDelayNanos > 0 ? scheduler.createWorker() : null, weigher, maxWeight));
+    }
+
+    /**
+     * Elements and flush timeouts are queued and applied by a single drain loop, guarded by {@code wip}, which is
+     * also the only place emitting downstream. Nothing is emitted under a lock, and a downstream requesting more
+     * from {@code onNext} (or a synchronous upstream answering a request) only bumps {@code wip}, so the loop
+     * trampolines instead of recursing. The invariant {@code credit + batch.size() <= maxSize} bounds the elements held.
+     *
+     * @param <T> The element type
+     */
+    private static final class BatchSubscriber<T> implements FlowableSubscriber<T>, Subscription {
+
+        private final Subscriber<? super List<T>> downstream;
+        private final int maxSize;
+        private final long maxDelayNanos;
+        private final Scheduler.Worker worker;
+        private final ToLongFunction<? super T> weigher;
+        private final long maxWeight;
+        private final Queue<Object> signals = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+
+        private Subscription upstream;
+        private volatile boolean done;
+        private volatile Throwable error;
+        private volatile Throwable invalidRequest;
+        private volatile boolean cancelled;
+
+        // only accessed by the drain loop
+        private List<T> batch;
+        private long weight;
+        private long batchIndex;
+        private Disposable timer;
+        private boolean flushPending;
+        private long emitted;
+        private long credit;
+        private boolean terminated;
+
+        BatchSubscriber(Subscriber<? super List<T>> downstream, int maxSize, long maxDelayNanos, Scheduler.Worker worker,
+                        ToLongFunction<? super T> weigher, long maxWeight) {
+            this.downstream = downstream;
+            this.maxSize = maxSize;
+            this.maxDelayNanos = maxDelayNanos;
+            this.worker = worker;
+            this.weigher = weigher;
+            this.maxWeight = maxWeight;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            upstream = s;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done || cancelled) {
+                return;
+            }
+            signals.offer(t);
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done || cancelled) {
+                return;
+            }
+            error = t;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done || cancelled) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (invalidRequest == null) {
+                    invalidRequest = new IllegalArgumentException("§3.9 violated: positive request amount required but it was " + n);
+                    upstream.cancel();
+                }
+            } else {
+                long r;
+                long u;
+                do {
+                    r = requested.get();
+                    u = r + n;
+                    if (u < 0) {
+                        u = Long.MAX_VALUE;
+                    }
+                } while (!requested.compareAndSet(r, u));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            upstream.cancel();
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                drainOnce();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drainOnce() {
+            if (terminated) {
+                discard();
+                return;
+            }
+            if (cancelled) {
+                terminate();
+                return;
+            }
+            Throwable invalid = invalidRequest;
+            if (invalid != null) {
+                terminate();
+                downstream.onError(invalid);
+                return;
+            }
+            // read before polling, so every element preceding the terminal signal is already queued
+            boolean d = done;
+            Object signal;
+            while ((signal = signals.poll()) != null) {
+                if (signal instanceof Timeout timeout) {
+                    if (timeout.index() == batchIndex && batch != null) {
+                        timer = null;
+                        flushPending = true;
+                    }
+                } else {
+                    add((T) signal);
+                }
+            }
+            Throwable e = error;
+            if (d && e != null) {
+                terminate();
+                downstream.onError(e);
+                return;
+            }
+            if (flushPending || d && batch != null) {
+                if (emitted == requested.get()) {
+                    return;
+                }
+                List<T> full = batch;
+                batch = null;
+                weight = 0;
+                batchIndex++;
+                flushPending = false;
+                stopTimer();
+                emitted++;
+                downstream.onNext(full);
+                if (cancelled) {
+                    return;
+                }
+            }
+            if (d) {
+                terminate();
+                downstream.onComplete();
+                return;
+            }
+            topUp();
+        }
+
+        private void add(T t) {
+            credit--;
+            if (batch == null) {
+                batch = new ArrayList<>(maxSize);
+                startTimer();
+            }
+            batch.add(t);
+            if (weigher != null) {
+                weight += weigher.applyAsLong(t);
+            }
+            if (batch.size() >= maxSize || weight >= maxWeight) {
+                flushPending = true;
+            }
+        }
+
+        private void topUp() {
+            if (emitted == requested.get()) {
+                return;
+            }
+            long missing = maxSize - credit - (batch != null ? batch.size() : 0);
+            if (missing > 0) {
+                credit += missing;
+                upstream.request(missing);
+            }
+        }
+
+        private void terminate() {
+            terminated = true;
+            discard();
+        }
+
+        private void discard() {
+            signals.clear();
+            batch = null;
+            stopTimer();
+            if (worker != null) {
+                worker.dispose();
+            }
+        }
+
+        private void startTimer() {
+            if (worker != null) {
+                long index = batchIndex;
+                timer = worker.schedule(() -> {
+                    signals.offer(new Timeout(index));
+                    drain();
+                }, maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void stopTimer() {
+            Disposable t = timer;
+            if (t != null) {
+                timer = null;
+                t.dispose();
+            }
+        }
+    }
+
+    /**
+     * A flush timeout for the batch with the given index, queued by the timer.
+     *
+     * @param index The batch index
+     */
+    private record Timeout(long index) {
+    }
+}
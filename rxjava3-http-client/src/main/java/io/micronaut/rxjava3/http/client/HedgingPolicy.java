@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.io.buffer.ReferenceCounted;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.processors.AsyncProcessor;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hedges idempotent requests, see {@link Rx3HttpClientConfiguration.HedgingConfiguration}. The publishers of the
+ * underlying client are cold: subscribing again sends the request again, and the load balancer selects the instance
+ * again, which for the usual round-robin balancers is a different one. The latency of the attempt that wins is
+ * recorded, as well as the elapsed time of a primary attempt cancelled because a hedged attempt won, a lower bound of
+ * its latency. A response of the losing attempt that arrives anyway is released.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class HedgingPolicy {
+
+    private final LatencyTracker latencies;
+    private final long initialDelayNanos;
+    private final long minDelayNanos;
+    private final TokenBudget budget;
+    private final Scheduler scheduler;
+
+    /**
+     * @param configuration The configuration
+     * @param scheduler     The scheduler running the hedging timers
+     */
+    HedgingPolicy(Rx3HttpClientConfiguration.HedgingConfiguration configuration, Scheduler scheduler) {
+        this.latencies = new LatencyTracker(configuration.getWindow(), configuration.getPercentile());
+        this.initialDelayNanos = configuration.getInitialDelay().toNanos();
+        this.minDelayNanos = configuration.getMinDelay().toNanos();
+        // allow a burst of hedged requests after a quiet period, but no more than ten
+        this.budget = new TokenBudget(configuration.getBudget(), 10);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Hedges the given call if its request is idempotent.
+     *
+     * @param request   The request
+     * @param publisher The cold publisher of the underlying client, producing a single response
+     * @param <T>       The element type
+     * @return The hedged publisher
+     */
+    <T> Publisher<T> apply(HttpRequest<?> request, Publisher<T> publisher) {
+        if (!Rx3ClientPipeline.isIdempotent(request)) {
+            return publisher;
+        }
+        return Flowable.defer(() -> {
+            budget.deposit();
+            AtomicBoolean decided = new AtomicBoolean();
+            AsyncProcessor<Object> primaryDone = AsyncProcessor.create();
+            Flowable<T> primary = attempt(publisher, decided, true)
+                    .doOnTerminate(primaryDone::onComplete);
+            Flowable<T> hedge = Flowable.timer(delayNanos(), TimeUnit.NANOSECONDS, scheduler)
+                    .takeUntil(primaryDone)
+                    .filter(ignored -> budget.withdraw())
+                    .concatMap(ignored -> attempt(publisher, decided, false));
+            return Flowable.mergeArrayDelayError(primary, hedge).take(1);
+        });
+    }
+
+    /**
+     * @param publisher      The cold publisher of the underlying client
+     * @param decided        Whether an attempt already won, shared by the attempts of a call
+     * @param recordOnCancel Whether the elapsed time is recorded when the attempt is cancelled because another won
+     * @param <T>            The element type
+     * @return The attempt, only emitting its response if it is the first of the call
+     */
+    private <T> Flowable<T> attempt(Publisher<T> publisher, AtomicBoolean decided, boolean recordOnCancel) {
+        return Flowable.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean won = new AtomicBoolean();
+            return Flowable.fromPublisher(publisher)
+                    .filter(response -> {
+                        if (decided.compareAndSet(false, true)) {
+                            won.set(true);
+                            latencies.record(System.nanoTime() - start);
+                            return true;
+                        }
+                        // the other attempt won while this response was on its way, take(1) would drop it
+                        release(response);
+                        return false;
+                    })
+                    .doOnCancel(() -> {
+                        if (recordOnCancel && !won.get() && decided.get()) {
+                            latencies.record(System.nanoTime() - start);
+                        }
+                    });
+        });
+    }
+
+    private static void release(Object response) {
+        Object body = response instanceof HttpResponse<?> httpResponse ? httpResponse.body() : response;
+        if (body instanceof ReferenceCounted referenceCounted) {
+            referenceCounted.release();
+        }
+    }
+
+    private long delayNanos() {
+        long percentile = latencies.percentileNanos();
+        return Math.max(minDelayNanos, percentile < 0 ? initialDelayNanos : percentile);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpRequest;
+
+/**
+ * Copies requests that are about to be modified on behalf of the caller, so the request the caller passed in is left
+ * as it was and can be sent again.
+ *
+ * @since 3.6.0
+ */
+@Internal
+public final class HttpRequestCopy {
+
+    private HttpRequestCopy() {
+    }
+
+    /**
+     * @param request The request
+     * @return A copy of the method, URI, headers, attributes and body of the request
+     */
+    @NonNull
+    public static MutableHttpRequest<Object> of(@NonNull HttpRequest<?> request) {
+        MutableHttpRequest<Object> copy = HttpRequest.create(request.getMethod(), request.getUri().toString());
+        request.getHeaders().forEach((name, values) -> values.forEach(value -> copy.header(name, value)));
+        request.getAttributes().forEach(copy::setAttribute);
+        request.getBody().ifPresent(copy::body);
+        return copy;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.io.buffer.ReferenceCounted;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import org.reactivestreams.Publisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Decodes a stream of JSON elements, either newline delimited or wrapped in a top level array, one network chunk at
+ * a time: the elements completed by a chunk are decoded into a single list. The bytes of an element split across
+ * chunks are carried over to the chunk that completes it.
+ *
+ * @param <T> The element type
+ * @since 3.6.0
+ */
+@Internal
+final class JsonChunkDecoder<T> {
+
+    private static final int UNKNOWN = -1;
+
+    private final JsonMapper mapper;
+    private final Argument<T> type;
+
+    private int base = UNKNOWN;
+    private int depth;
+    private boolean inElement;
+    private boolean scalar;
+    private boolean inString;
+    private boolean escaped;
+    private boolean ended;
+    private byte[] pending = new byte[0];
+    private int pendingLength;
+
+    private JsonChunkDecoder(JsonMapper mapper, Argument<T> type) {
+        this.mapper = mapper;
+        this.type = type;
+    }
+
+    /**
+     * Decodes the elements of the given chunks into lists, merging the lists of consecutive chunks until they hold
+     * {@code maxSize} elements or {@code maxDelay} has elapsed since the first of them. The elements of a chunk are
+     * never split across lists.
+     *
+     * @param chunks     The chunks, which are released once decoded
+     * @param type       The element type
+     * @param jsonMapper The mapper of the application, or {@code null} outside of an application
+     * @param maxSize    The number of elements at which a list is emitted
+     * @param maxDelay   The maximum time a partial list is held back, or {@code null} to only emit partial lists on completion
+     * @param <T>        The element type
+     * @return The lists of elements
+     */
+    static <T> Flowable<List<T>> decodeBatched(Publisher<ByteBuffer<?>> chunks,
+                                               Argument<T> type,
+                                               @Nullable JsonMapper jsonMapper,
+                                               int maxSize,
+                                               @Nullable Duration maxDelay) {
+        Flowable<List<T>> lists = decode(chunks, type, jsonMapper);
+        return new FlowableBatch<>(lists, maxSize, maxDelay != null ? maxDelay.toNanos() : 0, Schedulers.computation(), List::size, maxSize)
+                .map(JsonChunkDecoder::concat);
+    }
+
+    /**
+     * Decodes the elements completed by each chunk into one list. Chunks that complete no element emit nothing.
+     *
+     * @param chunks     The chunks, which are released once decoded
+     * @param type       The element type
+     * @param jsonMapper The mapper of the application, or {@code null} outside of an application
+     * @param <T>        The element type
+     * @return The lists of elements
+     */
+    static <T> Flowable<List<T>> decode(Publisher<ByteBuffer<?>> chunks, Argument<T> type, @Nullable JsonMapper jsonMapper) {
+        JsonMapper mapper = jsonMapper != null ? jsonMapper : MapperHolder.MAPPER;
+        return Flowable.defer(() -> {
+            JsonChunkDecoder<T> decoder = new JsonChunkDecoder<>(mapper, type);
+            return Flowable.fromPublisher(chunks)
+                    .map(decoder::decodeChunk)
+                    .concatWith(Flowable.fromCallable(decoder::complete))
+                    .filter(elements -> !elements.isEmpty());
+        });
+    }
+
+    /**
+     * Decodes the elements completed by a chunk and releases it.
+     *
+     * @param chunk The chunk
+     * @return The elements
+     * @throws IOException If an element cannot be decoded
+     */
+    List<T> decodeChunk(ByteBuffer<?> chunk) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = chunk.toByteArray();
+        } finally {
+            if (chunk instanceof ReferenceCounted referenceCounted) {
+                referenceCounted.release();
+            }
+        }
+        return decodeBytes(bytes);
+    }
+
+    /**
+     * Decodes the elements completed by the given bytes. The bytes of an incomplete element are kept for the next call.
+     *
+     * @param bytes The bytes
+     * @return The elements
+     * @throws IOException If an element cannot be decoded
+     */
+    List<T> decodeBytes(byte[] bytes) throws IOException {
+        List<T> elements = null;
+        int start = 0;
+        for (int i = 0; i < bytes.length && !ended; i++) {
+            byte b = bytes[i];
+            int end = -1;
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                    if (depth == base) {
+                        end = i + 1;
+                    }
+                }
+            } else if (!inElement) {
+                if (isSeparator(b)) {
+                    continue;
+                }
+                if (base == UNKNOWN) {
+                    // a stream starting with an array is an array of elements, otherwise a sequence of elements
+                    base = b == '[' ? 1 : 0;
+                    if (base == 1) {
+                        depth = 1;
+                        continue;
+                    }
+                }
+                if (b == ']' && base == 1 && depth == 1) {
+                    ended = true;
+                    continue;
+                }
+                inElement = true;
+                start = i;
+                if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else {
+                    scalar = true;
+                }
+            } else if (scalar) {
+                if (isSeparator(b) || b == ']') {
+                    end = i;
+                    // the closing bracket of the array is handled once the element is decoded
+                    i--;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+                if (depth == base) {
+                    end = i + 1;
+                }
+            }
+            if (end >= 0) {
+                if (elements == null) {
+                    elements = new ArrayList<>();
+                }
+                elements.add(element(bytes, start, end));
+                inElement = false;
+                scalar = false;
+            }
+        }
+        if (inElement) {
+            keep(bytes, start, bytes.length);
+        }
+        return elements != null ? elements : Collections.emptyList();
+    }
+
+    /**
+     * Decodes the last element once the stream completes, which can only be a scalar not followed by a separator.
+     *
+     * @return The last element, if any
+     * @throws IOException If the stream ends within an element or the element cannot be decoded
+     */
+    List<T> complete() throws IOException {
+        if (!inElement) {
+            return Collections.emptyList();
+        }
+        if (!scalar) {
+            throw new EOFException("The JSON stream ended within an element");
+        }
+        inElement = false;
+        return Collections.singletonList(element(new byte[0], 0, 0));
+    }
+
+    private T element(byte[] bytes, int start, int end) throws IOException {
+        if (pendingLength == 0) {
+            return mapper.readValue(new ByteArrayInputStream(bytes, start, end - start), type);
+        }
+        keep(bytes, start, end);
+        byte[] element = Arrays.copyOf(pending, pendingLength);
+        pendingLength = 0;
+        return mapper.readValue(element, type);
+    }
+
+    private void keep(byte[] bytes, int start, int end) {
+        int length = end - start;
+        if (pendingLength + length > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(pendingLength + length, pending.length * 2));
+        }
+        System.arraycopy(bytes, start, pending, pendingLength, length);
+        pendingLength += length;
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ',' || b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static <T> List<T> concat(List<List<T>> lists) {
+        if (lists.size() == 1) {
+            return lists.get(0);
+        }
+        int size = 0;
+        for (List<T> list : lists) {
+            size += list.size();
+        }
+        List<T> elements = new ArrayList<>(size);
+        for (List<T> list : lists) {
+            elements.addAll(list);
+        }
+        return elements;
+    }
+
+    /**
+     * Holds the mapper used by clients created outside of an application, created on first use.
+     */
+    private static final class MapperHolder {
+        static final JsonMapper MAPPER = JsonMapper.createDefault();
+    }
+}
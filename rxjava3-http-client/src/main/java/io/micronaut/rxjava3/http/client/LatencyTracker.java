@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records the most recent response times of a client and derives a percentile from them. The response times are
+ * counted in a histogram of logarithmic buckets, each a power of two split in eight, and a ring buffer keeps the
+ * bucket of every response time in the window so that it leaves the histogram once it falls out of the window.
+ * Recording is lock free and safe from any thread. The percentile, the upper bound of its bucket and so at most an
+ * eighth above the actual response time, is recomputed every eighth of the window with a walk over the buckets,
+ * so reading it is a volatile read.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class LatencyTracker {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicIntegerArray window;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final long rank;
+    private final int recomputeInterval;
+    private final AtomicLong count = new AtomicLong();
+    private volatile long percentileNanos = -1;
+
+    /**
+     * @param window     The number of recent response times kept
+     * @param percentile The percentile, between 0 and 100
+     */
+    LatencyTracker(int window, double percentile) {
+        this.window = new AtomicIntegerArray(window);
+        this.rank = Math.max(1, (long) Math.ceil(percentile / 100 * window));
+        this.recomputeInterval = Math.max(1, window / 8);
+    }
+
+    /**
+     * @param nanos A response time
+     */
+    void record(long nanos) {
+        int bucket = bucketOf(nanos);
+        long n = count.getAndIncrement();
+        int evicted = window.getAndSet((int) (n % window.length()), bucket);
+        counts.incrementAndGet(bucket);
+        if (n >= window.length()) {
+            counts.decrementAndGet(evicted);
+        }
+        if (n + 1 >= window.length() && (n + 1) % recomputeInterval == 0) {
+            percentileNanos = percentile();
+        }
+    }
+
+    /**
+     * @return The percentile, or {@code -1} until the window has been filled once
+     */
+    long percentileNanos() {
+        return percentileNanos;
+    }
+
+    private long percentile() {
+        long seen = 0;
+        int last = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long c = counts.get(bucket);
+            if (c > 0) {
+                seen += c;
+                last = bucket;
+                if (seen >= rank) {
+                    return upperBoundOf(bucket);
+                }
+            }
+        }
+        // concurrent records may briefly leave fewer response times in the buckets than in the window
+        return upperBoundOf(last);
+    }
+
+    /**
+     * @param nanos A response time
+     * @return The bucket of the response time
+     */
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @param bucket A bucket
+     * @return The largest response time counted in the bucket
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + width - 1;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.MediaType;
+import io.micronaut.json.JsonMapper;
+import io.reactivex.rxjava3.core.Flowable;
+
+import java.util.Arrays;
+
+/**
+ * Encodes the elements of a request body stream as newline delimited JSON.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class NdjsonEncoder {
+
+    /**
+     * The newline delimited JSON media type.
+     */
+    static final MediaType NDJSON = new MediaType("application/x-ndjson");
+
+    private NdjsonEncoder() {
+    }
+
+    /**
+     * Encodes every element as one JSON document followed by a line feed. Elements are encoded as they are requested,
+     * so the encoding follows the demand of the HTTP client.
+     *
+     * @param elements   The elements
+     * @param jsonMapper The mapper of the application, or {@code null} outside of an application
+     * @param <T>        The element type
+     * @return The encoded lines
+     */
+    static <T> Flowable<byte[]> encode(Flowable<T> elements, @Nullable JsonMapper jsonMapper) {
+        JsonMapper mapper = jsonMapper != null ? jsonMapper : MapperHolder.MAPPER;
+        return elements.map(element -> {
+            byte[] json = mapper.writeValueAsBytes(element);
+            byte[] line = Arrays.copyOf(json, json.length + 1);
+            line[json.length] = '\n';
+            return line;
+        });
+    }
+
+    /**
+     * Holds the mapper used by clients created outside of an application, created on first use.
+     */
+    private static final class MapperHolder {
+        static final JsonMapper MAPPER = JsonMapper.createDefault();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import java.time.Duration;
+
+/**
+ * Signals that a request was rejected without being sent, because it would have waited longer than allowed for the
+ * rate limit of the client, see {@link Rx3HttpClientConfiguration.RateLimitConfiguration}.
+ *
+ * @since 3.6.0
+ */
+public final class RateLimitExceededException extends RequestRejectedException {
+
+    /**
+     * @param wait The time the request would have waited
+     */
+    public RateLimitExceededException(Duration wait) {
+        super("Request rejected: the rate limit would delay it by " + wait.toMillis() + "ms");
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import org.reactivestreams.Publisher;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket limiting the rate of the requests of a client, see
+ * {@link Rx3HttpClientConfiguration.RateLimitConfiguration}, implemented with the generic cell rate algorithm: the
+ * bucket is a single theoretical arrival time, advanced with compare-and-set by one emission interval per request.
+ * A request that comes too early is not rejected but delayed, its subscription to the underlying client being
+ * scheduled on a timer, and gives its slot back when it is cancelled before the timer fires. A {@code 429} response
+ * with a {@code Retry-After} header pauses the bucket.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class RateLimiter {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final long maxWaitNanos;
+    private final Scheduler scheduler;
+    private final RateLimiterStatistics statistics = new RateLimiterStatistics();
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param configuration The configuration
+     * @param scheduler     The scheduler running the timers and providing the clock
+     */
+    RateLimiter(Rx3HttpClientConfiguration.RateLimitConfiguration configuration, Scheduler scheduler) {
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / configuration.getRequestsPerSecond());
+        this.toleranceNanos = intervalNanos * (configuration.getBurst() - 1);
+        this.maxWaitNanos = configuration.getMaxWait().toNanos();
+        this.scheduler = scheduler;
+        this.theoreticalArrival = new AtomicLong(now());
+    }
+
+    /**
+     * @return The statistics of the rate limit
+     */
+    RateLimiterStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Delays the calls of the given publisher to respect the rate limit.
+     *
+     * @param publisher The cold publisher of the underlying client
+     * @param <T>       The element type
+     * @return The rate limited publisher
+     */
+    <T> Publisher<T> apply(Publisher<T> publisher) {
+        return Flowable.defer(() -> {
+            long wait = reserve();
+            if (wait < 0) {
+                return Flowable.error(new RateLimitExceededException(Duration.ofNanos(-wait)));
+            }
+            Flowable<T> call = Flowable.fromPublisher(publisher).doOnError(this::pauseOnTooManyRequests);
+            if (wait == 0) {
+                return call;
+            }
+            // a request cancelled while it waits gives its slot back, unless the timer fired at the same time
+            AtomicBoolean settled = new AtomicBoolean();
+            return Completable.timer(wait, TimeUnit.NANOSECONDS, scheduler)
+                    .doOnComplete(() -> settled.set(true))
+                    .doOnDispose(() -> {
+                        if (settled.compareAndSet(false, true)) {
+                            release();
+                        }
+                    })
+                    .andThen(call);
+        });
+    }
+
+    /**
+     * Reserves the next slot.
+     *
+     * @return The time to wait for the slot, or the opposite of that time if it is longer than the maximum wait and
+     * nothing was reserved
+     */
+    private long reserve() {
+        while (true) {
+            long now = now();
+            long current = theoreticalArrival.get();
+            long wait = Math.max(0, current - toleranceNanos - now);
+            if (wait > maxWaitNanos) {
+                statistics.recordRejected();
+                return -wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, Math.max(current, now) + intervalNanos)) {
+                statistics.recordWait(wait);
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Gives back a reserved slot that was not used.
+     */
+    private void release() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+
+    private void pauseOnTooManyRequests(Throwable error) {
+        if (!(error instanceof HttpClientResponseException responseException)
+                || responseException.getStatus() != HttpStatus.TOO_MANY_REQUESTS) {
+            return;
+        }
+        long retryAfter = retryAfterNanos(responseException.getResponse().getHeaders().get(HttpHeaders.RETRY_AFTER));
+        if (retryAfter <= 0) {
+            return;
+        }
+        // no request may start before the end of the pause, and the burst is spent
+        long resume = now() + retryAfter + toleranceNanos;
+        long current;
+        do {
+            current = theoreticalArrival.get();
+            if (current >= resume) {
+                return;
+            }
+        } while (!theoreticalArrival.compareAndSet(current, resume));
+        statistics.recordPause();
+    }
+
+    private long now() {
+        return scheduler.now(TimeUnit.NANOSECONDS);
+    }
+
+    private static long retryAfterNanos(@Nullable String retryAfter) {
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Duration.between(ZonedDateTime.now(date.getZone()), date).toNanos();
+            } catch (DateTimeParseException ignored) {
+                return 0;
+            }
+        }
+    }
+}
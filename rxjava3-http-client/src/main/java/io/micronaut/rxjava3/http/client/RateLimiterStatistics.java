@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the rate limit of a client, see {@link Rx3HttpClientConfiguration.RateLimitConfiguration}, including a
+ * histogram of the time requests waited for the rate limit.
+ *
+ * @since 3.6.0
+ */
+public final class RateLimiterStatistics {
+
+    /**
+     * The upper bounds of the buckets of the wait time histogram. The last bucket of the histogram counts the waits
+     * longer than the last bound.
+     */
+    public static final List<Duration> WAIT_TIME_BOUNDS = List.of(
+            Duration.ZERO,
+            Duration.ofMillis(1),
+            Duration.ofMillis(10),
+            Duration.ofMillis(100),
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(10)
+    );
+
+    private static final long[] BOUNDS_NANOS = WAIT_TIME_BOUNDS.stream().mapToLong(Duration::toNanos).toArray();
+
+    private final AtomicLongArray waitTimes = new AtomicLongArray(BOUNDS_NANOS.length + 1);
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder pauses = new LongAdder();
+
+    /**
+     * @return The number of requests permitted, immediately or after a wait
+     */
+    public long getPermitted() {
+        long permitted = 0;
+        for (int i = 0; i < waitTimes.length(); i++) {
+            permitted += waitTimes.get(i);
+        }
+        return permitted;
+    }
+
+    /**
+     * @return The number of requests that would have waited longer than the maximum wait
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return The number of times the rate limit was paused by the {@code Retry-After} header of a {@code 429} response
+     */
+    public long getPauses() {
+        return pauses.sum();
+    }
+
+    /**
+     * @return The time the permitted requests waited in total
+     */
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(totalWaitNanos.sum());
+    }
+
+    /**
+     * Returns the histogram of the time the permitted requests waited: the count at index {@code i} is the number of
+     * requests that waited at most {@code WAIT_TIME_BOUNDS.get(i)}, and more than the previous bound. The last count
+     * is the number of requests that waited longer than the last bound.
+     *
+     * @return The counts of the histogram buckets
+     */
+    public long[] getWaitTimeHistogram() {
+        long[] counts = new long[waitTimes.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = waitTimes.get(i);
+        }
+        return counts;
+    }
+
+    void recordWait(long nanos) {
+        int bucket = 0;
+        while (bucket < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+        waitTimes.incrementAndGet(bucket);
+        totalWaitNanos.add(nanos);
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void recordPause() {
+        pauses.increment();
+    }
+}
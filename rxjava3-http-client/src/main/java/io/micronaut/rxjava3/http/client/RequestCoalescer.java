@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.reactivex.rxjava3.core.Flowable;
+import org.reactivestreams.Publisher;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces concurrent identical {@code GET} requests, see {@link Rx3HttpClientConfiguration.CoalescingConfiguration}.
+ * The first subscriber sends the request, the subscribers arriving while it is in flight receive the same decoded
+ * body instance. Raw {@link ByteBuffer} bodies are reference counted and never shared. Requests without an
+ * {@code Authorization} header are only coalesced when anonymous requests are, see {@link RequestKey#isShareable}.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class RequestCoalescer {
+
+    private final List<String> headers;
+    private final boolean anonymous;
+    private final Map<RequestKey, Flowable<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param headers   The headers that distinguish otherwise identical requests
+     * @param anonymous Whether requests without an {@code Authorization} header are coalesced
+     */
+    RequestCoalescer(Collection<String> headers, boolean anonymous) {
+        this.headers = RequestKey.normalize(headers);
+        this.anonymous = anonymous;
+    }
+
+    /**
+     * Coalesces the given retrieve call with the identical calls in flight.
+     *
+     * @param request   The request
+     * @param bodyType  The body type
+     * @param publisher The cold publisher of the underlying client
+     * @param <T>       The body type
+     * @return The coalesced publisher
+     */
+    <T> Publisher<T> apply(HttpRequest<?> request, Argument<?> bodyType, Publisher<T> publisher) {
+        if (request.getMethod() != HttpMethod.GET || ByteBuffer.class.isAssignableFrom(bodyType.getType())
+                || !RequestKey.isShareable(request, anonymous)) {
+            return publisher;
+        }
+        return Flowable.defer(() -> {
+            RequestKey key = RequestKey.of(request, bodyType, headers);
+            @SuppressWarnings("unchecked")
+            Flowable<T> shared = (Flowable<T>) inFlight.computeIfAbsent(key, k -> share(k, publisher));
+            return shared;
+        });
+    }
+
+    /**
+     * @return The number of distinct requests in flight
+     */
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private <T> Flowable<T> share(RequestKey key, Publisher<T> publisher) {
+        Object[] self = new Object[1];
+        // removed before the subscribers see the end of the response, so that no caller can pick up a finished call:
+        // once it terminated, refCount disconnects and a new subscriber would send the request again. replay so that a
+        // subscriber arriving between the body and the completion still receives the body, refCount so that the
+        // request is cancelled once every subscriber cancelled
+        Flowable<T> shared = Flowable.fromPublisher(publisher)
+                .doOnTerminate(() -> inFlight.remove(key, self[0]))
+                .doOnCancel(() -> inFlight.remove(key, self[0]))
+                .replay()
+                .refCount();
+        self[0] = shared;
+        return shared;
+    }
+}
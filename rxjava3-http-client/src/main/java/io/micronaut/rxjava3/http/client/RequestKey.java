@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Identifies the response to a {@code GET} request by its URI, the body type it is decoded to and the values of a
+ * selection of headers, always including {@code Authorization}, the other headers being ignored. The key is computed
+ * before the client filters run, so it does not see the headers they add.
+ *
+ * @param uri      The request URI
+ * @param headers  The values of the selected headers, by lower case name
+ * @param bodyType The body type
+ * @since 3.6.0
+ */
+@Internal
+record RequestKey(String uri, Map<String, List<String>> headers, Argument<?> bodyType) {
+
+    /**
+     * @param headers The header names
+     * @return The lower case, distinct header names, including {@code Authorization}
+     */
+    static List<String> normalize(Collection<String> headers) {
+        return Stream.concat(headers.stream(), Stream.of(HttpHeaders.AUTHORIZATION))
+                .map(name -> name.toLowerCase(Locale.ENGLISH))
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Whether the response to the given request may be shared with the other requests with the same key. A request
+     * without an {@code Authorization} header may still be given credentials by a client filter, after the key is
+     * computed, so it is only shared when the client is configured to share anonymous requests.
+     *
+     * @param request   The request
+     * @param anonymous Whether requests without an {@code Authorization} header are shared
+     * @return Whether the response may be shared
+     */
+    static boolean isShareable(HttpRequest<?> request, boolean anonymous) {
+        return anonymous || request.getHeaders().contains(HttpHeaders.AUTHORIZATION);
+    }
+
+    /**
+     * @param request  The request
+     * @param bodyType The body type
+     * @param headers  The normalized names of the selected headers
+     * @return The key
+     */
+    static RequestKey of(HttpRequest<?> request, Argument<?> bodyType, List<String> headers) {
+        Map<String, List<String>> values = new TreeMap<>();
+        for (String header : headers) {
+            List<String> all = request.getHeaders().getAll(header);
+            if (!all.isEmpty()) {
+                values.put(header, all);
+            }
+        }
+        return new RequestKey(request.getUri().toString(), values, bodyType);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.http.client.exceptions.HttpClientException;
+
+/**
+ * Signals that a request was rejected by the client itself, without being sent. Such failures are neither retried nor
+ * counted by the circuit breaker.
+ *
+ * @since 3.6.0
+ */
+public abstract class RequestRejectedException extends HttpClientException {
+
+    /**
+     * @param message The message
+     */
+    protected RequestRejectedException(String message) {
+        super(message);
+    }
+}
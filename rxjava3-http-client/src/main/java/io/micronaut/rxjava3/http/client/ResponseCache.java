@@ -0,0 +1,330 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpRequest;
+import io.reactivex.rxjava3.core.Flowable;
+import org.reactivestreams.Publisher;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Caches the bodies retrieved with {@code GET} requests, see {@link Rx3HttpClientConfiguration.CacheConfiguration}.
+ * Entries are kept for the freshness lifetime given by the {@code max-age} directive of the {@code Cache-Control}
+ * response header, and revalidated with a conditional request once stale, when the response carried an
+ * {@code ETag} or a {@code Last-Modified} header. The least recently used entries are evicted first. An entry stored
+ * for a response with a {@code Vary} header only serves the requests with the same values of the listed headers.
+ * Requests without an {@code Authorization} header are only cached when anonymous requests are, see
+ * {@link RequestKey#isShareable}.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class ResponseCache {
+
+    private final List<String> headers;
+    private final boolean anonymous;
+    private final ResponseCacheStatistics statistics = new ResponseCacheStatistics();
+    private final Map<RequestKey, Entry> entries;
+
+    /**
+     * @param configuration The configuration
+     */
+    ResponseCache(Rx3HttpClientConfiguration.CacheConfiguration configuration) {
+        this.headers = RequestKey.normalize(configuration.getHeaders());
+        this.anonymous = configuration.isAnonymous();
+        int maximumSize = configuration.getMaximumSize();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RequestKey, Entry> eldest) {
+                if (size() > maximumSize) {
+                    statistics.recordEviction();
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    /**
+     * @return The statistics of the cache
+     */
+    ResponseCacheStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Retrieves the body of the given request from the cache, or through the given exchange function, caching the
+     * response when allowed.
+     *
+     * @param request  The request
+     * @param bodyType The body type
+     * @param exchange The function sending a request, possibly conditional, through the underlying client
+     * @param retrieve The publisher retrieving the body when the request is not cacheable
+     * @param <T>      The body type
+     * @return The publisher of the body
+     */
+    <T> Publisher<T> retrieve(HttpRequest<?> request,
+                              Argument<T> bodyType,
+                              Function<HttpRequest<?>, Publisher<HttpResponse<T>>> exchange,
+                              Publisher<T> retrieve) {
+        if (request.getMethod() != HttpMethod.GET || ByteBuffer.class.isAssignableFrom(bodyType.getType())
+                || !RequestKey.isShareable(request, anonymous)) {
+            return retrieve;
+        }
+        CacheControl requestCacheControl = CacheControl.parse(request.getHeaders());
+        if (requestCacheControl.noStore) {
+            return retrieve;
+        }
+        boolean noCache = requestCacheControl.noCache;
+        return Flowable.defer(() -> {
+            RequestKey key = RequestKey.of(request, bodyType, headers);
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.matches(request)) {
+                entry = null;
+            }
+            long now = System.nanoTime();
+            if (entry != null && !noCache) {
+                if (entry.isFresh(now)) {
+                    statistics.recordHit();
+                    return Flowable.just(entry.<T>body());
+                }
+                if (entry.isWithinStaleWhileRevalidate(now)) {
+                    statistics.recordStaleHit();
+                    if (entry.revalidating.compareAndSet(false, true)) {
+                        statistics.recordRevalidation();
+                        fetch(key, request, entry, exchange)
+                                .ignoreElements()
+                                .onErrorComplete()
+                                .doFinally(() -> entry.revalidating.set(false))
+                                .subscribe();
+                    }
+                    return Flowable.just(entry.<T>body());
+                }
+            }
+            statistics.recordMiss();
+            if (entry != null && entry.isRevalidatable()) {
+                statistics.recordRevalidation();
+            }
+            return fetch(key, request, entry, exchange);
+        });
+    }
+
+    private <T> Flowable<T> fetch(RequestKey key,
+                                  HttpRequest<?> request,
+                                  @Nullable Entry entry,
+                                  Function<HttpRequest<?>, Publisher<HttpResponse<T>>> exchange) {
+        HttpRequest<?> sent = entry != null && entry.isRevalidatable() ? conditional(request, entry) : request;
+        return Flowable.fromPublisher(exchange.apply(sent)).concatMap(response -> {
+            T body = store(key, request, response, entry);
+            return body != null ? Flowable.just(body) : Flowable.<T>empty();
+        });
+    }
+
+    @Nullable
+    private <T> T store(RequestKey key, HttpRequest<?> request, HttpResponse<T> response, @Nullable Entry entry) {
+        long now = System.nanoTime();
+        HttpHeaders responseHeaders = response.getHeaders();
+        if (entry != null && response.status() == HttpStatus.NOT_MODIFIED) {
+            statistics.recordNotModified();
+            CacheControl cacheControl = responseHeaders.contains(HttpHeaders.CACHE_CONTROL)
+                    ? CacheControl.parse(responseHeaders)
+                    : entry.cacheControl;
+            String etag = responseHeaders.get(HttpHeaders.ETAG);
+            String lastModified = responseHeaders.get(HttpHeaders.LAST_MODIFIED);
+            entries.put(key, new Entry(
+                    entry.body,
+                    etag != null ? etag : entry.etag,
+                    lastModified != null ? lastModified : entry.lastModified,
+                    cacheControl,
+                    entry.vary,
+                    now
+            ));
+            return entry.body();
+        }
+        T body = response.getBody().orElse(null);
+        CacheControl cacheControl = CacheControl.parse(responseHeaders);
+        Map<String, List<String>> vary = vary(request, responseHeaders);
+        Entry updated = new Entry(
+                body,
+                responseHeaders.get(HttpHeaders.ETAG),
+                responseHeaders.get(HttpHeaders.LAST_MODIFIED),
+                cacheControl,
+                vary,
+                now
+        );
+        if (body != null && response.status() == HttpStatus.OK && !cacheControl.noStore && vary != null
+                && (cacheControl.maxAgeNanos > 0 || updated.isRevalidatable())) {
+            entries.put(key, updated);
+        } else {
+            entries.remove(key);
+        }
+        return body;
+    }
+
+    /**
+     * @param request         The request
+     * @param responseHeaders The response headers
+     * @return The values of the request headers listed by the {@code Vary} response header, by lower case name, or
+     * {@code null} when the response varies on something else than request headers
+     */
+    @Nullable
+    private static Map<String, List<String>> vary(HttpRequest<?> request, HttpHeaders responseHeaders) {
+        Map<String, List<String>> values = new TreeMap<>();
+        for (String header : responseHeaders.getAll(HttpHeaders.VARY)) {
+            for (String name : header.split(",")) {
+                String normalized = name.trim().toLowerCase(Locale.ENGLISH);
+                if (normalized.equals("*")) {
+                    return null;
+                }
+                if (!normalized.isEmpty()) {
+                    values.put(normalized, request.getHeaders().getAll(normalized));
+                }
+            }
+        }
+        return values;
+    }
+
+    private static HttpRequest<?> conditional(HttpRequest<?> request, Entry entry) {
+        MutableHttpRequest<Object> conditional = HttpRequest.GET(request.getUri().toString());
+        request.getHeaders().forEach((name, values) -> values.forEach(value -> conditional.header(name, value)));
+        if (entry.etag != null) {
+            conditional.header(HttpHeaders.IF_NONE_MATCH, entry.etag);
+        }
+        if (entry.lastModified != null) {
+            conditional.header(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified);
+        }
+        return conditional;
+    }
+
+    /**
+     * The directives of a {@code Cache-Control} header that matter to a client cache.
+     *
+     * @param noStore                   Whether the response must not be stored
+     * @param noCache                   Whether the response must be revalidated before each use
+     * @param maxAgeNanos               The freshness lifetime
+     * @param staleWhileRevalidateNanos How long a stale response may be used while it is revalidated in the background
+     */
+    private record CacheControl(boolean noStore, boolean noCache, long maxAgeNanos, long staleWhileRevalidateNanos) {
+
+        static CacheControl parse(HttpHeaders headers) {
+            boolean noStore = false;
+            boolean noCache = false;
+            long maxAge = 0;
+            long staleWhileRevalidate = 0;
+            for (String header : headers.getAll(HttpHeaders.CACHE_CONTROL)) {
+                for (String directive : header.split(",")) {
+                    String[] parts = directive.trim().toLowerCase(Locale.ENGLISH).split("=", 2);
+                    switch (parts[0]) {
+                        case "no-store":
+                            noStore = true;
+                            break;
+                        case "no-cache":
+                            noCache = true;
+                            break;
+                        case "max-age":
+                            maxAge = seconds(parts);
+                            break;
+                        case "stale-while-revalidate":
+                            staleWhileRevalidate = seconds(parts);
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }
+            return new CacheControl(noStore, noCache, noCache ? 0 : maxAge, staleWhileRevalidate);
+        }
+
+        private static long seconds(String[] parts) {
+            if (parts.length < 2) {
+                return 0;
+            }
+            try {
+                return TimeUnit.SECONDS.toNanos(Long.parseLong(parts[1].replace("\"", "").trim()));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * A cached body.
+     */
+    private static final class Entry {
+
+        final Object body;
+        final String etag;
+        final String lastModified;
+        final CacheControl cacheControl;
+        final Map<String, List<String>> vary;
+        final long storedAt;
+        final AtomicBoolean revalidating = new AtomicBoolean();
+
+        Entry(Object body, @Nullable String etag, @Nullable String lastModified, CacheControl cacheControl,
+              Map<String, List<String>> vary, long storedAt) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.cacheControl = cacheControl;
+            this.vary = vary;
+            this.storedAt = storedAt;
+        }
+
+        boolean matches(HttpRequest<?> request) {
+            for (Map.Entry<String, List<String>> header : vary.entrySet()) {
+                if (!request.getHeaders().getAll(header.getKey()).equals(header.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isFresh(long now) {
+            return now - storedAt < cacheControl.maxAgeNanos;
+        }
+
+        boolean isWithinStaleWhileRevalidate(long now) {
+            return now - storedAt < cacheControl.maxAgeNanos + cacheControl.staleWhileRevalidateNanos;
+        }
+
+        boolean isRevalidatable() {
+            return etag != null || lastModified != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T body() {
+            return (T) body;
+        }
+    }
+}
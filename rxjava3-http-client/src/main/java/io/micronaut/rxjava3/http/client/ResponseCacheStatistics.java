@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the response cache of a client, see {@link Rx3HttpClientConfiguration.CacheConfiguration}.
+ *
+ * @since 3.6.0
+ */
+public final class ResponseCacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @return The number of requests served from a fresh entry, without touching the network
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of requests served from a stale entry while it was revalidated in the background
+     */
+    public long getStaleHits() {
+        return staleHits.sum();
+    }
+
+    /**
+     * @return The number of requests that waited for the server, because there was no entry or it had to be revalidated
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of conditional requests sent to revalidate a stale entry, in the background or not
+     */
+    public long getRevalidations() {
+        return revalidations.sum();
+    }
+
+    /**
+     * @return The number of revalidations answered with {@code 304 Not Modified}
+     */
+    public long getNotModified() {
+        return notModified.sum();
+    }
+
+    /**
+     * @return The number of entries evicted to respect the maximum size
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The ratio of requests served from the cache, fresh or stale, or {@code 0} if nothing was requested
+     */
+    public double getHitRatio() {
+        long served = hits.sum() + staleHits.sum();
+        long total = served + misses.sum();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordStaleHit() {
+        staleHits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordRevalidation() {
+        revalidations.increment();
+    }
+
+    void recordNotModified() {
+        notModified.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.exceptions.HttpClientException;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import org.reactivestreams.Publisher;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries the idempotent requests that failed with a transient error, see
+ * {@link Rx3HttpClientConfiguration.RetryConfiguration}. Retries are delayed by an exponential backoff with full
+ * jitter, so that the clients that failed together do not retry together, and capped by a budget so that retries
+ * cannot multiply the load of a struggling server.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final Set<Integer> statuses;
+    private final TokenBudget budget;
+    private final RetryStatistics statistics = new RetryStatistics();
+    private final Scheduler scheduler;
+
+    /**
+     * @param configuration The configuration
+     * @param scheduler     The scheduler running the backoff timers
+     */
+    RetryPolicy(Rx3HttpClientConfiguration.RetryConfiguration configuration, Scheduler scheduler) {
+        this.maxAttempts = configuration.getMaxAttempts();
+        this.initialDelayNanos = configuration.getInitialDelay().toNanos();
+        this.maxDelayNanos = Math.max(initialDelayNanos, configuration.getMaxDelay().toNanos());
+        this.multiplier = configuration.getMultiplier();
+        this.statuses = Set.copyOf(configuration.getStatuses());
+        // allow a burst of retries after a quiet period, but no more than ten
+        this.budget = new TokenBudget(configuration.getBudget(), 10);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @return The statistics of the retries
+     */
+    RetryStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Retries the given call if its request is idempotent.
+     *
+     * @param request   The request
+     * @param publisher The cold publisher of the underlying client, producing a single response
+     * @param <T>       The element type
+     * @return The publisher retrying on failure
+     */
+    <T> Publisher<T> apply(HttpRequest<?> request, Publisher<T> publisher) {
+        if (!Rx3ClientPipeline.isIdempotent(request)) {
+            return publisher;
+        }
+        return Flowable.defer(() -> {
+            budget.deposit();
+            int[] attempts = {1};
+            return Flowable.fromPublisher(publisher).retryWhen(errors -> errors.concatMap(error -> {
+                if (!isRetryable(error)) {
+                    return Flowable.error(error);
+                }
+                if (attempts[0] >= maxAttempts) {
+                    statistics.recordExhausted();
+                    return Flowable.error(error);
+                }
+                if (!budget.withdraw()) {
+                    statistics.recordBudgetExceeded();
+                    return Flowable.error(error);
+                }
+                statistics.recordRetry();
+                return Flowable.timer(backoffNanos(attempts[0]++), TimeUnit.NANOSECONDS, scheduler);
+            }));
+        });
+    }
+
+    private long backoffNanos(int attempt) {
+        double ceiling = Math.min(maxDelayNanos, initialDelayNanos * Math.pow(multiplier, attempt - 1));
+        return (long) (ThreadLocalRandom.current().nextDouble() * ceiling);
+    }
+
+    private boolean isRetryable(Throwable error) {
+        if (error instanceof HttpClientResponseException responseException) {
+            return statuses.contains(responseException.getStatus().getCode());
+        }
+        // timeouts and connection failures, but not the requests the client itself refused to send
+        return error instanceof HttpClientException && !(error instanceof RequestRejectedException);
+    }
+}
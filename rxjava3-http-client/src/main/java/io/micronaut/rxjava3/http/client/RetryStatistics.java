@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the retries of a client, see {@link Rx3HttpClientConfiguration.RetryConfiguration}.
+ *
+ * @since 3.6.0
+ */
+public final class RetryStatistics {
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder budgetExceeded = new LongAdder();
+
+    /**
+     * @return The number of requests sent again after a failure
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return The number of requests that failed after the maximum number of attempts
+     */
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+
+    /**
+     * @return The number of retryable failures that were not retried because the retry budget was spent
+     */
+    public long getBudgetExceeded() {
+        return budgetExceeded.sum();
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    void recordExhausted() {
+        exhausted.increment();
+    }
+
+    void recordBudgetExceeded() {
+        budgetExceeded.increment();
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import org.reactivestreams.Publisher;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The RxJava 3 specific steps applied by the bridged clients to the publishers of the underlying client, built
+ * from a {@link Rx3HttpClientConfiguration}. When nothing is configured the publishers are returned untouched.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class Rx3ClientPipeline {
+
+    /**
+     * Pipeline without any step.
+     */
+    static final Rx3ClientPipeline NONE = new Rx3ClientPipeline(null, Rx3HttpClientConfiguration.DeliveryConfiguration.DEFAULT_PREFETCH, false,
+            null, null, null, null, null, null, null);
+
+    private static final Argument<byte[]> RAW_ERROR_TYPE = Argument.of(byte[].class);
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.TRACE
+    );
+
+    private final Scheduler deliveryScheduler;
+    private final int prefetch;
+    private final boolean lazyErrorDecoding;
+    private final HedgingPolicy hedging;
+    private final RequestCoalescer coalescer;
+    private final ResponseCache cache;
+    private final ConcurrencyLimiter limiter;
+    private final RetryPolicy retry;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+
+    private Rx3ClientPipeline(@Nullable Scheduler deliveryScheduler,
+                              int prefetch,
+                              boolean lazyErrorDecoding,
+                              @Nullable HedgingPolicy hedging,
+                              @Nullable RequestCoalescer coalescer,
+                              @Nullable ResponseCache cache,
+                              @Nullable ConcurrencyLimiter limiter,
+                              @Nullable RetryPolicy retry,
+                              @Nullable CircuitBreaker circuitBreaker,
+                              @Nullable RateLimiter rateLimiter) {
+        this.deliveryScheduler = deliveryScheduler;
+        this.prefetch = prefetch;
+        this.lazyErrorDecoding = lazyErrorDecoding;
+        this.hedging = hedging;
+        this.coalescer = coalescer;
+        this.cache = cache;
+        this.limiter = limiter;
+        this.retry = retry;
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Builds the pipeline of a client.
+     *
+     * @param configuration The client configuration, if any
+     * @param beanLocator   The bean locator used to look up executors
+     * @return The pipeline
+     */
+    @NonNull
+    static Rx3ClientPipeline of(@Nullable Rx3HttpClientConfiguration configuration, @NonNull BeanLocator beanLocator) {
+        if (configuration == null) {
+            return NONE;
+        }
+        Rx3HttpClientConfiguration.DeliveryConfiguration delivery = configuration.getDelivery();
+        Scheduler scheduler = resolveScheduler(delivery.getScheduler(), beanLocator);
+        HedgingPolicy hedging = configuration.getHedging().isEnabled()
+                ? new HedgingPolicy(configuration.getHedging(), Schedulers.computation())
+                : null;
+        RequestCoalescer coalescer = configuration.getCoalescing().isEnabled()
+                ? new RequestCoalescer(configuration.getCoalescing().getHeaders(), configuration.getCoalescing().isAnonymous())
+                : null;
+        ResponseCache cache = configuration.getCache().isEnabled()
+                ? new ResponseCache(configuration.getCache())
+                : null;
+        ConcurrencyLimiter limiter = configuration.getConcurrencyLimit().isEnabled()
+                ? new ConcurrencyLimiter(configuration.getConcurrencyLimit())
+                : null;
+        RetryPolicy retry = configuration.getRetry().isEnabled()
+                ? new RetryPolicy(configuration.getRetry(), Schedulers.computation())
+                : null;
+        CircuitBreaker circuitBreaker = configuration.getCircuitBreaker().isEnabled()
+                ? new CircuitBreaker(configuration.getCircuitBreaker(), System::nanoTime)
+                : null;
+        RateLimiter rateLimiter = configuration.getRateLimit().isEnabled()
+                ? new RateLimiter(configuration.getRateLimit(), Schedulers.computation())
+                : null;
+        return new Rx3ClientPipeline(scheduler, delivery.getPrefetch(), configuration.isLazyErrorDecoding(),
+                hedging, coalescer, cache, limiter, retry, circuitBreaker, rateLimiter);
+    }
+
+    /**
+     * Resolves the error type to pass to the underlying client. With lazy error decoding the error body is kept as a
+     * raw byte array, to be decoded only when {@code HttpClientResponseException.getResponse().getBody(type)} is
+     * called. A byte array rather than a {@link ByteBuffer}, so that the exception, which may be kept around, never
+     * holds a reference counted network buffer.
+     *
+     * @param errorType The error type requested by the caller
+     * @return The error type to use
+     */
+    @NonNull
+    Argument<?> errorType(@NonNull Argument<?> errorType) {
+        return lazyErrorDecoding ? RAW_ERROR_TYPE : errorType;
+    }
+
+    /**
+     * Applies the pipeline to a call that produces a single response.
+     *
+     * @param request   The request
+     * @param publisher The publisher of the underlying client
+     * @param <T>       The element type
+     * @return The publisher to expose
+     */
+    @NonNull
+    <T> Publisher<T> apply(@NonNull HttpRequest<?> request, @NonNull Publisher<T> publisher) {
+        return deliver(send(request, publisher));
+    }
+
+    /**
+     * Retrieves a single body through the pipeline. Unlike {@link #apply(HttpRequest, Publisher)}, the body may be
+     * served from the response cache, and the call may be coalesced with identical calls in flight.
+     *
+     * @param httpClient The underlying client
+     * @param request    The request
+     * @param bodyType   The body type
+     * @param errorType  The error type requested by the caller
+     * @param <T>        The body type
+     * @return The publisher to expose
+     */
+    @NonNull
+    <T> Publisher<T> retrieve(@NonNull HttpClient httpClient,
+                              @NonNull HttpRequest<?> request,
+                              @NonNull Argument<T> bodyType,
+                              @NonNull Argument<?> errorType) {
+        Argument<?> decodedErrorType = errorType(errorType);
+        Publisher<T> result = send(request, httpClient.retrieve(request, bodyType, decodedErrorType));
+        if (cache != null) {
+            result = cache.retrieve(request, bodyType, sent -> send(sent, httpClient.exchange(sent, bodyType, decodedErrorType)), result);
+        }
+        if (coalescer != null) {
+            result = coalescer.apply(request, bodyType, result);
+        }
+        return deliver(result);
+    }
+
+    /**
+     * Applies the pipeline to a streaming call.
+     *
+     * @param request   The request
+     * @param publisher The publisher of the underlying client
+     * @param <T>       The element type
+     * @return The publisher to expose
+     */
+    @NonNull
+    <T> Publisher<T> applyStream(@NonNull HttpRequest<?> request, @NonNull Publisher<T> publisher) {
+        return deliver(publisher);
+    }
+
+    /**
+     * Applies the pipeline to a streaming call emitting network buffers, or responses holding them. These are not
+     * handed off to the delivery scheduler: the buffers still queued for the scheduler when the stream is cancelled
+     * or fails would be dropped without being released. They are delivered on the event loop instead, where the
+     * subscriber releases them.
+     *
+     * @param request   The request
+     * @param publisher The publisher of the underlying client
+     * @param <T>       The element type
+     * @return The publisher to expose
+     */
+    @NonNull
+    <T> Publisher<T> applyBufferStream(@NonNull HttpRequest<?> request, @NonNull Publisher<T> publisher) {
+        return publisher;
+    }
+
+    /**
+     * @return The statistics of the response cache, if enabled
+     */
+    @Nullable
+    ResponseCacheStatistics cacheStatistics() {
+        return cache != null ? cache.statistics() : null;
+    }
+
+    /**
+     * @return The state of the concurrency limit, if enabled
+     */
+    @Nullable
+    ConcurrencyLimitStatistics concurrencyLimitStatistics() {
+        return limiter;
+    }
+
+    /**
+     * A request with a streamed body is never idempotent, since the body publisher cannot be subscribed again.
+     *
+     * @param request The request
+     * @return Whether the request can be sent again without side effects
+     */
+    static boolean isIdempotent(@NonNull HttpRequest<?> request) {
+        return IDEMPOTENT_METHODS.contains(request.getMethod())
+                && !(request.getBody().orElse(null) instanceof Publisher);
+    }
+
+    /**
+     * @return The statistics of the retries, if enabled
+     */
+    @Nullable
+    RetryStatistics retryStatistics() {
+        return retry != null ? retry.statistics() : null;
+    }
+
+    /**
+     * @return The state of the circuit breaker, if enabled
+     */
+    @Nullable
+    CircuitBreakerStatistics circuitBreakerStatistics() {
+        return circuitBreaker;
+    }
+
+    /**
+     * @return The statistics of the rate limit, if enabled
+     */
+    @Nullable
+    RateLimiterStatistics rateLimiterStatistics() {
+        return rateLimiter != null ? rateLimiter.statistics() : null;
+    }
+
+    private <T> Publisher<T> send(HttpRequest<?> request, Publisher<T> publisher) {
+        // each attempt goes through the circuit breaker, waits for the rate limit and then for a slot of the
+        // concurrency limit; the attempts are retried, and the retrying call is hedged
+        Publisher<T> result = publisher;
+        if (limiter != null) {
+            result = limiter.apply(result);
+        }
+        if (rateLimiter != null) {
+            result = rateLimiter.apply(result);
+        }
+        if (circuitBreaker != null) {
+            result = circuitBreaker.apply(result);
+        }
+        if (retry != null) {
+            result = retry.apply(request, result);
+        }
+        if (hedging != null) {
+            result = hedging.apply(request, result);
+        }
+        return result;
+    }
+
+    private <T> Publisher<T> deliver(Publisher<T> publisher) {
+        if (deliveryScheduler == null) {
+            return publisher;
+        }
+        return Flowable.fromPublisher(publisher).observeOn(deliveryScheduler, false, prefetch);
+    }
+
+    @Nullable
+    private static Scheduler resolveScheduler(@Nullable String name, BeanLocator beanLocator) {
+        if (name == null || "event-loop".equals(name)) {
+            return null;
+        }
+        switch (name) {
+            case "computation":
+                return Schedulers.computation();
+            case "io":
+                return Schedulers.io();
+            case "single":
+                return Schedulers.single();
+            case "new-thread":
+                return Schedulers.newThread();
+            default:
+                ExecutorService executor = beanLocator.findBean(ExecutorService.class, Qualifiers.byName(name))
+                        .orElseThrow(() -> new ConfigurationException("No scheduler or executor named '" + name + "' is available to deliver HTTP client results"));
+                return Schedulers.from(executor);
+        }
+    }
+}
@@ -21,11 +21,13 @@ import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.reactivex.rxjava3.core.*;
 
 import java.net.URL;
+import java.util.Optional;
 
 /**
  * RxJava 3 variation of the {@link HttpClient} interface.
@@ -100,6 +102,196 @@ public interface Rx3HttpClient extends HttpClient {
         );
     }
 
+    /**
+     * Perform an HTTP request for the given request object emitting the full HTTP response as a {@link Single}. As a
+     * non-streaming call produces exactly one response, this avoids the backpressure machinery of a {@link Flowable}.
+     *
+     * @param request   The {@link HttpRequest} to execute
+     * @param bodyType  The body type
+     * @param errorType The error type
+     * @param <I>       The request body type
+     * @param <O>       The response body type
+     * @param <E>       The error type
+     * @return A {@link Single} that emits the full HTTP response
+     * @since 3.6.0
+     */
+    default <I, O, E> Single<HttpResponse<O>> exchangeSingle(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType, @NonNull Argument<E> errorType) {
+        return Single.fromPublisher(exchange(request, bodyType, errorType));
+    }
+
+    /**
+     * Perform an HTTP request for the given request object emitting the full HTTP response as a {@link Single}.
+     *
+     * @param request  The {@link HttpRequest} to execute
+     * @param bodyType The body type
+     * @param <I>      The request body type
+     * @param <O>      The response body type
+     * @return A {@link Single} that emits the full HTTP response
+     * @since 3.6.0
+     */
+    default <I, O> Single<HttpResponse<O>> exchangeSingle(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType) {
+        return exchangeSingle(request, bodyType, DEFAULT_ERROR_TYPE);
+    }
+
+    /**
+     * Perform an HTTP request for the given request object emitting the full HTTP response as a {@link Single}.
+     *
+     * @param request  The {@link HttpRequest} to execute
+     * @param bodyType The body type
+     * @param <I>      The request body type
+     * @param <O>      The response body type
+     * @return A {@link Single} that emits the full HTTP response
+     * @since 3.6.0
+     */
+    default <I, O> Single<HttpResponse<O>> exchangeSingle(@NonNull HttpRequest<I> request, @NonNull Class<O> bodyType) {
+        return exchangeSingle(request, Argument.of(bodyType));
+    }
+
+    /**
+     * Perform an HTTP request for the given request object emitting the response body as a {@link Single}. A response
+     * without a body results in a {@link java.util.NoSuchElementException}.
+     *
+     * @param request   The {@link HttpRequest} to execute
+     * @param bodyType  The body type
+     * @param errorType The error type
+     * @param <I>       The request body type
+     * @param <O>       The response body type
+     * @param <E>       The error type
+     * @return A {@link Single} that emits the response body
+     * @since 3.6.0
+     */
+    default <I, O, E> Single<O> retrieveSingle(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType, @NonNull Argument<E> errorType) {
+        return Single.fromPublisher(retrieve(request, bodyType, errorType));
+    }
+
+    /**
+     * Perform an HTTP request for the given request object emitting the response body as a {@link Single}.
+     *
+     * @param request  The {@link HttpRequest} to execute
+     * @param bodyType The body type
+     * @param <I>      The request body type
+     * @param <O>      The response body type
+     * @return A {@link Single} that emits the response body
+     * @since 3.6.0
+     */
+    default <I, O> Single<O> retrieveSingle(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType) {
+        return retrieveSingle(request, bodyType, DEFAULT_ERROR_TYPE);
+    }
+
+    /**
+     * Perform an HTTP request for the given request object emitting the response body as a {@link Single}.
+     *
+     * @param request  The {@link HttpRequest} to execute
+     * @param bodyType The body type
+     * @param <I>      The request body type
+     * @param <O>      The response body type
+     * @return A {@link Single} that emits the response body
+     * @since 3.6.0
+     */
+    default <I, O> Single<O> retrieveSingle(@NonNull HttpRequest<I> request, @NonNull Class<O> bodyType) {
+        return retrieveSingle(request, Argument.of(bodyType));
+    }
+
+    /**
+     * Perform an HTTP request for the given request object emitting the response body as a {@link Maybe}. The
+     * {@link Maybe} completes empty when the response has no body or the status is {@link HttpStatus#NOT_FOUND}.
+     *
+     * @param request   The {@link HttpRequest} to execute
+     * @param bodyType  The body type
+     * @param errorType The error type
+     * @param <I>       The request body type
+     * @param <O>       The response body type
+     * @param <E>       The error type
+     * @return A {@link Maybe} that emits the response body
+     * @since 3.6.0
+     */
+    default <I, O, E> Maybe<O> retrieveMaybe(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType, @NonNull Argument<E> errorType) {
+        return Maybe.fromPublisher(retrieve(request, bodyType, errorType))
+                .onErrorComplete(ClientErrors::isNotFound);
+    }
+
+    /**
+     * Perform an HTTP request for the given request object emitting the response body as a {@link Maybe}.
+     *
+     * @param request  The {@link HttpRequest} to execute
+     * @param bodyType The body type
+     * @param <I>      The request body type
+     * @param <O>      The response body type
+     * @return A {@link Maybe} that emits the response body
+     * @since 3.6.0
+     */
+    default <I, O> Maybe<O> retrieveMaybe(@NonNull HttpRequest<I> request, @NonNull Argument<O> bodyType) {
+        return retrieveMaybe(request, bodyType, DEFAULT_ERROR_TYPE);
+    }
+
+    /**
+     * Perform an HTTP request for the given request object emitting the response body as a {@link Maybe}.
+     *
+     * @param request  The {@link HttpRequest} to execute
+     * @param bodyType The body type
+     * @param <I>      The request body type
+     * @param <O>      The response body type
+     * @return A {@link Maybe} that emits the response body
+     * @since 3.6.0
+     */
+    default <I, O> Maybe<O> retrieveMaybe(@NonNull HttpRequest<I> request, @NonNull Class<O> bodyType) {
+        return retrieveMaybe(request, Argument.of(bodyType));
+    }
+
+    /**
+     * Returns the statistics of the response cache of the client, enabled with
+     * {@code rxjava3.http.clients.<id>.cache.enabled}.
+     *
+     * @return The statistics of the response cache, or empty if the client has no response cache
+     * @since 3.6.0
+     */
+    default Optional<ResponseCacheStatistics> getCacheStatistics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the state of the adaptive concurrency limit of the client, enabled with
+     * {@code rxjava3.http.clients.<id>.concurrency-limit.enabled}.
+     *
+     * @return The state of the concurrency limit, or empty if the client is not limited
+     * @since 3.6.0
+     */
+    default Optional<ConcurrencyLimitStatistics> getConcurrencyLimitStatistics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the statistics of the retries of the client, enabled with {@code rxjava3.http.clients.<id>.retry.enabled}.
+     *
+     * @return The statistics of the retries, or empty if the client does not retry
+     * @since 3.6.0
+     */
+    default Optional<RetryStatistics> getRetryStatistics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the state of the circuit breaker of the client, enabled with
+     * {@code rxjava3.http.clients.<id>.circuit-breaker.enabled}.
+     *
+     * @return The state of the circuit breaker, or empty if the client has no circuit breaker
+     * @since 3.6.0
+     */
+    default Optional<CircuitBreakerStatistics> getCircuitBreakerStatistics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the statistics of the rate limit of the client, enabled with
+     * {@code rxjava3.http.clients.<id>.rate-limit.enabled}.
+     *
+     * @return The statistics of the rate limit, or empty if the client is not rate limited
+     * @since 3.6.0
+     */
+    default Optional<RateLimiterStatistics> getRateLimiterStatistics() {
+        return Optional.empty();
+    }
+
     /**
      * Create a new {@link Rx3HttpClient}.
      * Note that this method should only be used outside of the context of a Micronaut application.
@@ -0,0 +1,1121 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.reactivex.rxjava3.core.Flowable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * RxJava 3 specific options of an HTTP client, configured under {@code rxjava3.http.clients.<id>}, where the id is
+ * the id of the {@link io.micronaut.http.client.annotation.Client} (or of the service under
+ * {@code micronaut.http.services}). The {@code default} entry applies to clients without a dedicated entry.
+ *
+ * @since 3.6.0
+ */
+@EachProperty(Rx3HttpClientConfiguration.PREFIX)
+public class Rx3HttpClientConfiguration {
+
+    /**
+     * The prefix to use for configuration.
+     */
+    public static final String PREFIX = "rxjava3.http.clients";
+
+    /**
+     * The name of the entry applied to clients without a dedicated entry.
+     */
+    public static final String DEFAULT = "default";
+
+    private final String name;
+    private final DeliveryConfiguration delivery;
+    private final HedgingConfiguration hedging;
+    private final CoalescingConfiguration coalescing;
+    private final CacheConfiguration cache;
+    private final ConcurrencyLimitConfiguration concurrencyLimit;
+    private final RetryConfiguration retry;
+    private final CircuitBreakerConfiguration circuitBreaker;
+    private final RateLimitConfiguration rateLimit;
+    private boolean lazyErrorDecoding;
+
+    /**
+     * @param name             The client id
+     * @param delivery         The delivery configuration
+     * @param hedging          The hedging configuration
+     * @param coalescing       The request coalescing configuration
+     * @param cache            The response cache configuration
+     * @param concurrencyLimit The concurrency limit configuration
+     * @param retry            The retry configuration
+     * @param circuitBreaker   The circuit breaker configuration
+     * @param rateLimit        The rate limit configuration
+     */
+    public Rx3HttpClientConfiguration(@Parameter String name,
+                                      @Nullable DeliveryConfiguration delivery,
+                                      @Nullable HedgingConfiguration hedging,
+                                      @Nullable CoalescingConfiguration coalescing,
+                                      @Nullable CacheConfiguration cache,
+                                      @Nullable ConcurrencyLimitConfiguration concurrencyLimit,
+                                      @Nullable RetryConfiguration retry,
+                                      @Nullable CircuitBreakerConfiguration circuitBreaker,
+                                      @Nullable RateLimitConfiguration rateLimit) {
+        this.name = name;
+        this.delivery = delivery != null ? delivery : new DeliveryConfiguration();
+        this.hedging = hedging != null ? hedging : new HedgingConfiguration();
+        this.coalescing = coalescing != null ? coalescing : new CoalescingConfiguration();
+        this.cache = cache != null ? cache : new CacheConfiguration();
+        this.concurrencyLimit = concurrencyLimit != null ? concurrencyLimit : new ConcurrencyLimitConfiguration();
+        this.retry = retry != null ? retry : new RetryConfiguration();
+        this.circuitBreaker = circuitBreaker != null ? circuitBreaker : new CircuitBreakerConfiguration();
+        this.rateLimit = rateLimit != null ? rateLimit : new RateLimitConfiguration();
+    }
+
+    /**
+     * @return The client id
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The delivery configuration
+     */
+    @NonNull
+    public DeliveryConfiguration getDelivery() {
+        return delivery;
+    }
+
+    /**
+     * @return The hedging configuration
+     */
+    @NonNull
+    public HedgingConfiguration getHedging() {
+        return hedging;
+    }
+
+    /**
+     * @return The request coalescing configuration
+     */
+    @NonNull
+    public CoalescingConfiguration getCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * @return The response cache configuration
+     */
+    @NonNull
+    public CacheConfiguration getCache() {
+        return cache;
+    }
+
+    /**
+     * @return The concurrency limit configuration
+     */
+    @NonNull
+    public ConcurrencyLimitConfiguration getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * @return The retry configuration
+     */
+    @NonNull
+    public RetryConfiguration getRetry() {
+        return retry;
+    }
+
+    /**
+     * @return The circuit breaker configuration
+     */
+    @NonNull
+    public CircuitBreakerConfiguration getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * @return The rate limit configuration
+     */
+    @NonNull
+    public RateLimitConfiguration getRateLimit() {
+        return rateLimit;
+    }
+
+    /**
+     * @return Whether error bodies are decoded only on demand
+     */
+    public boolean isLazyErrorDecoding() {
+        return lazyErrorDecoding;
+    }
+
+    /**
+     * Sets whether the error body of a failed response is kept as a copy of its raw bytes, a {@code byte[]} rather than
+     * a network buffer so that a retained exception holds no pooled memory, and decoded only when
+     * {@code HttpClientResponseException.getResponse().getBody(type)} is called, instead of eagerly into the error
+     * type. Default value (false).
+     *
+     * @param lazyErrorDecoding Whether to decode error bodies on demand
+     */
+    public void setLazyErrorDecoding(boolean lazyErrorDecoding) {
+        this.lazyErrorDecoding = lazyErrorDecoding;
+    }
+
+    /**
+     * Configures the scheduler on which the results of the client are delivered. By default results are delivered on
+     * the Netty event loop that received them, which is the cheapest option when the downstream does not block.
+     */
+    @ConfigurationProperties("delivery")
+    public static class DeliveryConfiguration {
+
+        /**
+         * The default prefetch.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_PREFETCH = Flowable.bufferSize();
+
+        private String scheduler;
+        private int prefetch = DEFAULT_PREFETCH;
+
+        /**
+         * @return The name of the scheduler results are delivered on, if any
+         */
+        @Nullable
+        public String getScheduler() {
+            return scheduler;
+        }
+
+        /**
+         * Sets the scheduler results are delivered on: one of {@code computation}, {@code io}, {@code single},
+         * {@code new-thread}, or the name of a Micronaut managed executor. Leave unset (or use
+         * {@code event-loop}) to deliver results on the event loop.
+         *
+         * @param scheduler The scheduler name
+         */
+        public void setScheduler(@Nullable String scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        /**
+         * @return The number of signals requested and handed off per batch
+         */
+        public int getPrefetch() {
+            return prefetch;
+        }
+
+        /**
+         * Sets the number of signals requested upstream and queued for the delivery scheduler. All the signals
+         * queued when the scheduler picks up the hand-off are drained in one go. Default value
+         * (the RxJava buffer size, 128 unless overridden).
+         *
+         * @param prefetch The prefetch
+         */
+        public void setPrefetch(int prefetch) {
+            this.prefetch = Math.max(1, prefetch);
+        }
+    }
+
+    /**
+     * Configures request hedging: when the response to an idempotent request takes longer than a percentile of the
+     * recent response times, a second identical request is sent, which the load balancer of the client routes to the
+     * next instance. The first successful response wins and the other request is cancelled.
+     */
+    @ConfigurationProperties("hedging")
+    public static class HedgingConfiguration {
+
+        /**
+         * The default percentile.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final double DEFAULT_PERCENTILE = 95;
+
+        /**
+         * The default delay used until enough response times are recorded.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+
+        /**
+         * The default minimum delay.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(5);
+
+        /**
+         * The default budget.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final double DEFAULT_BUDGET = 0.1;
+
+        /**
+         * The default number of response times recorded.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_WINDOW = 1000;
+
+        private boolean enabled;
+        private double percentile = DEFAULT_PERCENTILE;
+        private Duration initialDelay = DEFAULT_INITIAL_DELAY;
+        private Duration minDelay = DEFAULT_MIN_DELAY;
+        private double budget = DEFAULT_BUDGET;
+        private int window = DEFAULT_WINDOW;
+
+        /**
+         * @return Whether hedging is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether idempotent requests are hedged. The hedged request only goes to a different instance when the
+         * client has a load balancer over several instances that selects them in turn, such as the round-robin
+         * balancer of a service id with several URLs: with a single URL, or a balancer that may select the same
+         * instance again, the hedged request can hit the same slow instance, so leave hedging disabled there.
+         * Default value (false).
+         *
+         * @param enabled Whether hedging is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The percentile of the recent response times after which a request is hedged
+         */
+        public double getPercentile() {
+            return percentile;
+        }
+
+        /**
+         * Sets the percentile of the recent response times after which a request is hedged. Default value (95).
+         *
+         * @param percentile The percentile, between 0 and 100
+         */
+        public void setPercentile(double percentile) {
+            this.percentile = Math.min(100, Math.max(0, percentile));
+        }
+
+        /**
+         * @return The delay after which a request is hedged until enough response times are recorded
+         */
+        @NonNull
+        public Duration getInitialDelay() {
+            return initialDelay;
+        }
+
+        /**
+         * Sets the delay after which a request is hedged until enough response times are recorded. Default value (100ms).
+         *
+         * @param initialDelay The initial delay
+         */
+        public void setInitialDelay(@NonNull Duration initialDelay) {
+            this.initialDelay = initialDelay;
+        }
+
+        /**
+         * @return The minimum delay after which a request is hedged
+         */
+        @NonNull
+        public Duration getMinDelay() {
+            return minDelay;
+        }
+
+        /**
+         * Sets the minimum delay after which a request is hedged, whatever the recent response times. Default value (5ms).
+         *
+         * @param minDelay The minimum delay
+         */
+        public void setMinDelay(@NonNull Duration minDelay) {
+            this.minDelay = minDelay;
+        }
+
+        /**
+         * @return The maximum number of hedged requests per request
+         */
+        public double getBudget() {
+            return budget;
+        }
+
+        /**
+         * Sets the maximum number of hedged requests per request, which caps the extra load: with {@code 0.1} at most
+         * one request in ten is hedged, even when all the instances are slow. Default value (0.1).
+         *
+         * @param budget The budget
+         */
+        public void setBudget(double budget) {
+            this.budget = Math.max(0, budget);
+        }
+
+        /**
+         * @return The number of recent response times the percentile is computed from
+         */
+        public int getWindow() {
+            return window;
+        }
+
+        /**
+         * Sets the number of recent response times the percentile is computed from. Default value (1000).
+         *
+         * @param window The window size
+         */
+        public void setWindow(int window) {
+            this.window = Math.max(1, window);
+        }
+    }
+
+    /**
+     * Configures request coalescing: concurrent {@code GET} requests retrieving the same URI as the same type, with
+     * the same values of the selected headers, share a single request to the server and its decoded body. The
+     * subscribers receive the same, possibly mutable, body instance, which they must not modify.
+     */
+    @ConfigurationProperties("coalescing")
+    public static class CoalescingConfiguration {
+
+        /**
+         * The default headers that distinguish otherwise identical requests.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final List<String> DEFAULT_HEADERS = List.of("Accept", "Accept-Language", "Authorization");
+
+        private boolean enabled;
+        private List<String> headers = DEFAULT_HEADERS;
+        private boolean anonymous;
+
+        /**
+         * @return Whether request coalescing is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether concurrent identical {@code GET} requests share a single request. Default value (false).
+         *
+         * @param enabled Whether request coalescing is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The headers that distinguish otherwise identical requests
+         */
+        @NonNull
+        public List<String> getHeaders() {
+            return headers;
+        }
+
+        /**
+         * Sets the headers that distinguish otherwise identical requests. The other headers are ignored: requests that
+         * only differ by them share the response. {@code Authorization} is always included. Default value (Accept,
+         * Accept-Language, Authorization).
+         *
+         * @param headers The header names
+         */
+        public void setHeaders(@NonNull List<String> headers) {
+            this.headers = headers;
+        }
+
+        /**
+         * @return Whether requests without an {@code Authorization} header are coalesced
+         */
+        public boolean isAnonymous() {
+            return anonymous;
+        }
+
+        /**
+         * Sets whether requests without an {@code Authorization} header are coalesced. Requests are compared before
+         * the client filters run, so only enable it when no filter adds credentials or other headers changing the
+         * response. Default value (false).
+         *
+         * @param anonymous Whether requests without an {@code Authorization} header are coalesced
+         */
+        public void setAnonymous(boolean anonymous) {
+            this.anonymous = anonymous;
+        }
+    }
+
+    /**
+     * Configures the response cache: the bodies retrieved with {@code GET} requests are cached as long as the
+     * {@code Cache-Control} header of the response allows, and revalidated with a conditional request once stale when
+     * the response carried an {@code ETag} or a {@code Last-Modified} header. Responses with a {@code Vary} header
+     * are only served to requests with the same values of the listed headers, and never cached for {@code Vary: *}.
+     * The callers receive the same, possibly mutable, body instance, which they must not modify.
+     */
+    @ConfigurationProperties("cache")
+    public static class CacheConfiguration {
+
+        /**
+         * The default maximum number of entries.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+        private boolean enabled;
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private List<String> headers = CoalescingConfiguration.DEFAULT_HEADERS;
+        private boolean anonymous;
+
+        /**
+         * @return Whether the response cache is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the bodies retrieved with {@code GET} requests are cached. Default value (false).
+         *
+         * @param enabled Whether the response cache is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The maximum number of entries
+         */
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        /**
+         * Sets the maximum number of entries, the least recently used entries being evicted first. Default value (1000).
+         *
+         * @param maximumSize The maximum number of entries
+         */
+        public void setMaximumSize(int maximumSize) {
+            this.maximumSize = Math.max(1, maximumSize);
+        }
+
+        /**
+         * @return The headers that distinguish otherwise identical requests
+         */
+        @NonNull
+        public List<String> getHeaders() {
+            return headers;
+        }
+
+        /**
+         * Sets the headers that distinguish otherwise identical requests, as with the {@code Vary} response header.
+         * {@code Authorization} is always included. Default value (Accept, Accept-Language, Authorization).
+         *
+         * @param headers The header names
+         */
+        public void setHeaders(@NonNull List<String> headers) {
+            this.headers = headers;
+        }
+
+        /**
+         * @return Whether the responses to requests without an {@code Authorization} header are cached
+         */
+        public boolean isAnonymous() {
+            return anonymous;
+        }
+
+        /**
+         * Sets whether the responses to requests without an {@code Authorization} header are cached. Requests are
+         * looked up before the client filters run, so only enable it when no filter adds credentials or other headers
+         * changing the response. Default value (false).
+         *
+         * @param anonymous Whether the responses to requests without an {@code Authorization} header are cached
+         */
+        public void setAnonymous(boolean anonymous) {
+            this.anonymous = anonymous;
+        }
+    }
+
+    /**
+     * Configures an adaptive limit of the requests the client keeps in flight. The limit grows by one per limit's worth
+     * of requests succeeding quickly while the limit is in use, and shrinks by the backoff ratio when a request takes longer than the
+     * latency threshold, times out, or is answered with {@code 429} or {@code 503}. Requests over the limit wait in a
+     * bounded queue, and fail with a {@link ConcurrencyLimitExceededException} when the queue is full.
+     */
+    @ConfigurationProperties("concurrency-limit")
+    public static class ConcurrencyLimitConfiguration {
+
+        /**
+         * The default initial limit.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+        /**
+         * The default minimum limit.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MIN_LIMIT = 1;
+
+        /**
+         * The default maximum limit.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAX_LIMIT = 200;
+
+        /**
+         * The default backoff ratio.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+        /**
+         * The default latency threshold.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final Duration DEFAULT_LATENCY_THRESHOLD = Duration.ofSeconds(2);
+
+        private boolean enabled;
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+        private Duration latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+        private int maxQueueSize;
+
+        /**
+         * @return Whether the concurrency limit is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the requests in flight are limited. Default value (false).
+         *
+         * @param enabled Whether the concurrency limit is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The initial limit
+         */
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        /**
+         * Sets the limit before any request completed. Default value (20).
+         *
+         * @param initialLimit The initial limit
+         */
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = Math.max(1, initialLimit);
+        }
+
+        /**
+         * @return The minimum limit
+         */
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        /**
+         * Sets the limit under which the limit never shrinks. Default value (1).
+         *
+         * @param minLimit The minimum limit
+         */
+        public void setMinLimit(int minLimit) {
+            this.minLimit = Math.max(1, minLimit);
+        }
+
+        /**
+         * @return The maximum limit
+         */
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        /**
+         * Sets the limit over which the limit never grows. Default value (200).
+         *
+         * @param maxLimit The maximum limit
+         */
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = Math.max(1, maxLimit);
+        }
+
+        /**
+         * @return The ratio the limit is multiplied by when a request is slow or fails
+         */
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        /**
+         * Sets the ratio the limit is multiplied by when a request is slow or fails. Default value (0.9).
+         *
+         * @param backoffRatio The backoff ratio, between 0.5 and 1
+         */
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = Math.min(1, Math.max(0.5, backoffRatio));
+        }
+
+        /**
+         * @return The response time over which a request counts as slow
+         */
+        @NonNull
+        public Duration getLatencyThreshold() {
+            return latencyThreshold;
+        }
+
+        /**
+         * Sets the response time over which a request counts as slow, shrinking the limit. Default value (2 seconds).
+         *
+         * @param latencyThreshold The latency threshold
+         */
+        public void setLatencyThreshold(@NonNull Duration latencyThreshold) {
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        /**
+         * @return The maximum number of requests waiting for a slot
+         */
+        public int getMaxQueueSize() {
+            return maxQueueSize;
+        }
+
+        /**
+         * Sets the maximum number of requests waiting for a slot. With {@code 0} the requests over the limit fail at
+         * once. Default value (0).
+         *
+         * @param maxQueueSize The maximum queue size
+         */
+        public void setMaxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = Math.max(0, maxQueueSize);
+        }
+    }
+
+    /**
+     * Configures the retries of the idempotent requests that fail with a transient error: a configured status, a
+     * timeout or a connection failure. Retries are delayed by an exponential backoff with full jitter, and capped by a
+     * budget relative to the number of requests.
+     */
+    @ConfigurationProperties("retry")
+    public static class RetryConfiguration {
+
+        /**
+         * The default maximum number of attempts.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+        /**
+         * The default delay before the first retry.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+
+        /**
+         * The default maximum delay between two attempts.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(2);
+
+        /**
+         * The default backoff multiplier.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final double DEFAULT_MULTIPLIER = 2;
+
+        /**
+         * The default budget.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final double DEFAULT_BUDGET = 0.1;
+
+        /**
+         * The default retried statuses.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final List<Integer> DEFAULT_STATUSES = List.of(502, 503, 504);
+
+        private boolean enabled;
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private Duration initialDelay = DEFAULT_INITIAL_DELAY;
+        private Duration maxDelay = DEFAULT_MAX_DELAY;
+        private double multiplier = DEFAULT_MULTIPLIER;
+        private double budget = DEFAULT_BUDGET;
+        private List<Integer> statuses = DEFAULT_STATUSES;
+
+        /**
+         * @return Whether retries are enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether failed idempotent requests are retried. Default value (false).
+         *
+         * @param enabled Whether retries are enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The maximum number of attempts, including the first one
+         */
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        /**
+         * Sets the maximum number of attempts, including the first one. Default value (3).
+         *
+         * @param maxAttempts The maximum number of attempts
+         */
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = Math.max(1, maxAttempts);
+        }
+
+        /**
+         * @return The upper bound of the delay before the first retry
+         */
+        @NonNull
+        public Duration getInitialDelay() {
+            return initialDelay;
+        }
+
+        /**
+         * Sets the upper bound of the delay before the first retry, the actual delay being random. Default value
+         * (100 milliseconds).
+         *
+         * @param initialDelay The initial delay
+         */
+        public void setInitialDelay(@NonNull Duration initialDelay) {
+            this.initialDelay = initialDelay;
+        }
+
+        /**
+         * @return The upper bound of the delay between two attempts
+         */
+        @NonNull
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        /**
+         * Sets the upper bound of the delay between two attempts. Default value (2 seconds).
+         *
+         * @param maxDelay The maximum delay
+         */
+        public void setMaxDelay(@NonNull Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+
+        /**
+         * @return The factor the delay bound grows by after each attempt
+         */
+        public double getMultiplier() {
+            return multiplier;
+        }
+
+        /**
+         * Sets the factor the delay bound grows by after each attempt. Default value (2).
+         *
+         * @param multiplier The multiplier
+         */
+        public void setMultiplier(double multiplier) {
+            this.multiplier = Math.max(1, multiplier);
+        }
+
+        /**
+         * @return The maximum number of retries per request
+         */
+        public double getBudget() {
+            return budget;
+        }
+
+        /**
+         * Sets the maximum number of retries per request: with {@code 0.1} retries add at most ten percent to the
+         * traffic, even when every request fails. Default value (0.1).
+         *
+         * @param budget The budget
+         */
+        public void setBudget(double budget) {
+            this.budget = Math.max(0, budget);
+        }
+
+        /**
+         * @return The response statuses that are retried
+         */
+        @NonNull
+        public List<Integer> getStatuses() {
+            return statuses;
+        }
+
+        /**
+         * Sets the response statuses that are retried. Timeouts and connection failures are always retried. Default
+         * value (502, 503, 504).
+         *
+         * @param statuses The statuses
+         */
+        public void setStatuses(@NonNull List<Integer> statuses) {
+            this.statuses = statuses;
+        }
+    }
+
+    /**
+     * Configures the circuit breaker of the client: when the failure rate of the requests crosses a threshold, the
+     * requests are rejected with a {@link CircuitOpenException} without being sent for the open duration, after which a
+     * few probe requests are sent, the circuit closing again when they all succeed. Server errors, timeouts and
+     * connection failures count as failures.
+     */
+    @ConfigurationProperties("circuit-breaker")
+    public static class CircuitBreakerConfiguration {
+
+        /**
+         * The default failure rate threshold.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+
+        /**
+         * The default minimum number of calls.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MINIMUM_CALLS = 20;
+
+        /**
+         * The default window size.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_WINDOW_SIZE = 100;
+
+        /**
+         * The default open duration.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+        /**
+         * The default number of probes.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_PROBES = 3;
+
+        private boolean enabled;
+        private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+        private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+        private int windowSize = DEFAULT_WINDOW_SIZE;
+        private Duration openDuration = DEFAULT_OPEN_DURATION;
+        private int probes = DEFAULT_PROBES;
+
+        /**
+         * @return Whether the circuit breaker is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the requests go through a circuit breaker. Default value (false).
+         *
+         * @param enabled Whether the circuit breaker is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The percentage of failed calls that opens the circuit
+         */
+        public double getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        /**
+         * Sets the percentage of failed calls that opens the circuit. Default value (50).
+         *
+         * @param failureRateThreshold The failure rate threshold, between 0 and 100
+         */
+        public void setFailureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = Math.min(100, Math.max(0, failureRateThreshold));
+        }
+
+        /**
+         * @return The number of calls of a window before the failure rate is evaluated
+         */
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        /**
+         * Sets the number of calls of a window before the failure rate is evaluated. Default value (20).
+         *
+         * @param minimumCalls The minimum number of calls
+         */
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = Math.max(1, minimumCalls);
+        }
+
+        /**
+         * @return The number of calls after which the failures are counted again from zero
+         */
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        /**
+         * Sets the number of calls after which the failures are counted again from zero. Default value (100).
+         *
+         * @param windowSize The window size
+         */
+        public void setWindowSize(int windowSize) {
+            this.windowSize = Math.max(1, windowSize);
+        }
+
+        /**
+         * @return How long the circuit stays open before probe requests are sent
+         */
+        @NonNull
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        /**
+         * Sets how long the circuit stays open before probe requests are sent. Default value (30 seconds).
+         *
+         * @param openDuration The open duration
+         */
+        public void setOpenDuration(@NonNull Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        /**
+         * @return The number of probe requests that must succeed to close the circuit
+         */
+        public int getProbes() {
+            return probes;
+        }
+
+        /**
+         * Sets the number of probe requests that must succeed to close the circuit. Default value (3).
+         *
+         * @param probes The number of probes
+         */
+        public void setProbes(int probes) {
+            this.probes = Math.max(1, probes);
+        }
+    }
+
+    /**
+     * Configures a token bucket limiting the rate of the requests of the client. Requests over the rate are delayed
+     * on a timer, without blocking any thread, and rejected with a {@link RateLimitExceededException} when they would
+     * wait longer than the maximum wait. A {@code 429} response with a {@code Retry-After} header pauses the bucket
+     * for the given time.
+     */
+    @ConfigurationProperties("rate-limit")
+    public static class RateLimitConfiguration {
+
+        /**
+         * The default number of requests per second.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final double DEFAULT_REQUESTS_PER_SECOND = 10;
+
+        /**
+         * The default burst.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_BURST = 1;
+
+        /**
+         * The default maximum wait.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(5);
+
+        private boolean enabled;
+        private double requestsPerSecond = DEFAULT_REQUESTS_PER_SECOND;
+        private int burst = DEFAULT_BURST;
+        private Duration maxWait = DEFAULT_MAX_WAIT;
+
+        /**
+         * @return Whether the rate limit is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the rate of the requests is limited. Default value (false).
+         *
+         * @param enabled Whether the rate limit is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The number of requests per second
+         */
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        /**
+         * Sets the sustained number of requests per second. Default value (10).
+         *
+         * @param requestsPerSecond The number of requests per second
+         */
+        public void setRequestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = Math.max(0.001, requestsPerSecond);
+        }
+
+        /**
+         * @return The number of requests that can be sent at once after a quiet period
+         */
+        public int getBurst() {
+            return burst;
+        }
+
+        /**
+         * Sets the number of requests that can be sent at once after a quiet period, that is the size of the bucket.
+         * Default value (1).
+         *
+         * @param burst The burst
+         */
+        public void setBurst(int burst) {
+            this.burst = Math.max(1, burst);
+        }
+
+        /**
+         * @return The maximum time a request waits for the rate limit
+         */
+        @NonNull
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        /**
+         * Sets the maximum time a request waits for the rate limit before it is rejected. Default value (5 seconds).
+         *
+         * @param maxWait The maximum wait
+         */
+        public void setMaxWait(@NonNull Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+    }
+}
@@ -21,10 +21,16 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Secondary;
+import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.LoadBalancer;
+import io.micronaut.http.client.ServiceHttpClientConfiguration;
+import io.micronaut.http.client.StreamingHttpClient;
 import io.micronaut.http.client.StreamingHttpClientRegistry;
+import io.micronaut.http.client.annotation.Client;
 import io.micronaut.inject.InjectionPoint;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.json.JsonMapper;
 
 /**
  * Factory class for creating RxJava 3 clients.
@@ -36,6 +42,7 @@ import io.micronaut.inject.InjectionPoint;
 public class Rx3HttpClientFactory {
 
     private final StreamingHttpClientRegistry<?> clientRegistry;
+    private final BridgedClientCache<Rx3StreamingHttpClient> clients = new BridgedClientCache<>();
 
     /**
      * Default constructor.
@@ -60,6 +67,48 @@ public class Rx3HttpClientFactory {
                                                         @Parameter @Nullable LoadBalancer loadBalancer,
                                                         @Parameter @Nullable HttpClientConfiguration configuration,
                                                         BeanContext beanContext) {
-        return new BridgedRx3StreamingHttpClient(clientRegistry.resolveStreamingHttpClient(injectionPoint, loadBalancer, configuration, beanContext));
+        StreamingHttpClient client = clientRegistry.resolveStreamingHttpClient(injectionPoint, loadBalancer, configuration, beanContext);
+        String clientId = resolveClientId(injectionPoint, configuration);
+        return clients.get(client, clientId, () -> new BridgedRx3StreamingHttpClient(
+                client,
+                Rx3ClientPipeline.of(resolveConfiguration(clientId, beanContext), beanContext),
+                beanContext.findBean(JsonMapper.class).orElse(null)
+        ));
+    }
+
+    /**
+     * Looks up the {@link Rx3HttpClientConfiguration} of the client, falling back to the {@code default} entry.
+     *
+     * @param clientId    The client id, if any
+     * @param beanContext The bean context
+     * @return The configuration, or {@code null} if none applies
+     */
+    @Nullable
+    static Rx3HttpClientConfiguration resolveConfiguration(@Nullable String clientId, BeanContext beanContext) {
+        if (clientId != null) {
+            Rx3HttpClientConfiguration specific = beanContext.findBean(Rx3HttpClientConfiguration.class, Qualifiers.byName(clientId)).orElse(null);
+            if (specific != null) {
+                return specific;
+            }
+        }
+        return beanContext.findBean(Rx3HttpClientConfiguration.class, Qualifiers.byName(Rx3HttpClientConfiguration.DEFAULT)).orElse(null);
+    }
+
+    @Nullable
+    private static String resolveClientId(@Nullable InjectionPoint<?> injectionPoint, @Nullable HttpClientConfiguration configuration) {
+        if (configuration instanceof ServiceHttpClientConfiguration serviceConfiguration) {
+            return serviceConfiguration.getServiceId();
+        }
+        if (injectionPoint != null) {
+            AnnotationMetadata metadata = injectionPoint.getAnnotationMetadata();
+            String id = metadata.stringValue(Client.class, "id").orElse(null);
+            if (id == null || id.isEmpty()) {
+                id = metadata.stringValue(Client.class).orElse(null);
+            }
+            if (id != null && !id.isEmpty()) {
+                return id;
+            }
+        }
+        return null;
     }
 }
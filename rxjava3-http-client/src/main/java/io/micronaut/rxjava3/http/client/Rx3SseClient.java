@@ -20,11 +20,16 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.sse.SseClient;
 import io.micronaut.http.sse.Event;
 import io.micronaut.rxjava3.http.client.sse.BridgedRx3SseClient;
+import io.micronaut.rxjava3.http.client.sse.ReconnectingEventStream;
+import io.micronaut.rxjava3.http.client.sse.SlowConsumerPolicy;
+import io.micronaut.rxjava3.http.client.sse.SseReconnectOptions;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 
 import java.net.URL;
 
@@ -51,6 +56,53 @@ public interface Rx3SseClient extends SseClient {
     @Override
     <B> Flowable<Event<B>> eventStream(@NonNull String uri, @NonNull Argument<B> eventType);
 
+    /**
+     * Returns a long-lived stream of events that survives dropped connections. When the connection fails (or the server
+     * ends the stream), the client reconnects after a jittered exponential backoff, or after the delay announced by the
+     * server in the {@code retry} field, and sends the id of the last received event in the {@code Last-Event-ID}
+     * header. Events whose id has already been received are dropped, within a bounded window of recent ids. The
+     * request is sent as is until an event with an id has been received; from then on each reconnection sends a copy
+     * of the request carrying the {@code Last-Event-ID} header, and the request passed in is left unchanged.
+     *
+     * @param request   The {@link MutableHttpRequest} to execute
+     * @param eventType The event data type
+     * @param options   The reconnection options
+     * @param <I>       The request body type
+     * @param <B>       The event data type
+     * @return A {@link Flowable} that emits the events of all successive connections
+     * @since 3.6.0
+     */
+    default <I, B> Flowable<Event<B>> reconnectingEventStream(@NonNull MutableHttpRequest<I> request,
+                                                              @NonNull Argument<B> eventType,
+                                                              @NonNull SseReconnectOptions options) {
+        return ReconnectingEventStream.create(this, request, eventType, options, Schedulers.computation());
+    }
+
+    /**
+     * Returns a stream of events that shares one connection, and one decoding of every event, with all the other
+     * subscribers of an identical request (same method, URI, headers and event type) made through this client. Each
+     * subscriber gets its own buffer of {@code bufferSize} events, and the given policy decides what happens when it
+     * is full, so a slow subscriber does not hold back the others. The connection is closed when the last subscriber
+     * cancels.
+     *
+     * <p>The default implementation does not share the connection and only applies the buffer.</p>
+     *
+     * @param request    The {@link HttpRequest} to execute
+     * @param eventType  The event data type
+     * @param bufferSize The size of the buffer of each subscriber
+     * @param policy     The policy applied when the buffer of a subscriber is full
+     * @param <I>        The request body type
+     * @param <B>        The event data type
+     * @return A {@link Flowable} that emits the shared events
+     * @since 3.6.0
+     */
+    default <I, B> Flowable<Event<B>> sharedEventStream(@NonNull HttpRequest<I> request,
+                                                        @NonNull Argument<B> eventType,
+                                                        int bufferSize,
+                                                        @NonNull SlowConsumerPolicy policy) {
+        return eventStream(request, eventType).compose(policy.buffer(bufferSize));
+    }
+
     /**
      * Create a new {@link Rx3SseClient}.
      * Note that this method should only be used outside of the context of a Micronaut application.
@@ -21,11 +21,15 @@ import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.StreamingHttpClient;
 import io.reactivex.rxjava3.core.Flowable;
 
 import java.net.URL;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -51,6 +55,130 @@ public interface Rx3StreamingHttpClient extends Rx3HttpClient, StreamingHttpClie
     @Override
     <I, O> Flowable<O> jsonStream(@NonNull HttpRequest<I> request, @NonNull Class<O> type);
 
+    /**
+     * Perform an HTTP request and receive data as a stream of JSON objects as they become available, collected into
+     * lists. The body, newline delimited JSON or a JSON array, is decoded one network chunk at a time: the elements
+     * completed by a chunk are decoded straight into one list, and the lists of consecutive chunks are merged until
+     * they hold {@code maxBatchSize} elements, or until {@code maxDelay} has elapsed since the first of them. The
+     * elements of a chunk are never split across lists, so a list holds more than {@code maxBatchSize} elements when
+     * a single chunk does. Emitting lists rather than single elements cuts the per-element signalling overhead on
+     * large feeds. The stream honours backpressure: at most {@code maxBatchSize} chunks are requested ahead of the
+     * demand.
+     *
+     * @param request      The {@link HttpRequest} instance
+     * @param type         The type of the elements
+     * @param maxBatchSize The maximum number of elements per list
+     * @param maxDelay     The maximum time a partial list is held back, or {@code null} to only emit partial lists on completion
+     * @param <I>          The request body type
+     * @param <O>          The element type
+     * @return A {@link Flowable} that emits lists of elements
+     * @since 3.6.0
+     */
+    default <I, O> Flowable<List<O>> jsonStreamBatched(@NonNull HttpRequest<I> request, @NonNull Argument<O> type, int maxBatchSize, @Nullable Duration maxDelay) {
+        return JsonChunkDecoder.decodeBatched(dataStream(request), type, null, maxBatchSize, maxDelay);
+    }
+
+    /**
+     * Perform an HTTP request and receive data as a stream of JSON objects as they become available, collected into
+     * lists, see {@link #jsonStreamBatched(HttpRequest, Argument, int, Duration)}.
+     *
+     * @param request      The {@link HttpRequest} instance
+     * @param type         The type of the elements
+     * @param maxBatchSize The maximum number of elements per list
+     * @param maxDelay     The maximum time a partial list is held back, or {@code null} to only emit partial lists on completion
+     * @param <I>          The request body type
+     * @param <O>          The element type
+     * @return A {@link Flowable} that emits lists of elements
+     * @since 3.6.0
+     */
+    default <I, O> Flowable<List<O>> jsonStreamBatched(@NonNull HttpRequest<I> request, @NonNull Class<O> type, int maxBatchSize, @Nullable Duration maxDelay) {
+        return jsonStreamBatched(request, Argument.of(type), maxBatchSize, maxDelay);
+    }
+
+    /**
+     * Request a stream of data where each emitted item is a {@link DataChunk} that exposes the received network buffer
+     * without copying it. Each chunk must be released by the subscriber, see {@link DataChunk}.
+     *
+     * @param request The {@link HttpRequest} instance
+     * @param <I>     The request body type
+     * @return A {@link Flowable} that emits the chunks
+     * @since 3.6.0
+     */
+    default <I> Flowable<DataChunk> dataChunks(@NonNull HttpRequest<I> request) {
+        return dataChunks(request, DEFAULT_ERROR_TYPE);
+    }
+
+    /**
+     * Request a stream of data where each emitted item is a {@link DataChunk} that exposes the received network buffer
+     * without copying it. Each chunk must be released by the subscriber, see {@link DataChunk}.
+     *
+     * @param request   The {@link HttpRequest} instance
+     * @param errorType The error type
+     * @param <I>       The request body type
+     * @return A {@link Flowable} that emits the chunks
+     * @since 3.6.0
+     */
+    default <I> Flowable<DataChunk> dataChunks(@NonNull HttpRequest<I> request, @NonNull Argument<?> errorType) {
+        return Flowable.fromPublisher(dataStream(request, errorType)).map(DataChunk::new);
+    }
+
+    /**
+     * Sends the given chunks as a chunked request body, emitting the full HTTP response. The chunks are requested
+     * only as the connection accepts more data, so the body is never buffered as a whole. Unless the request already
+     * has a content type, {@code application/octet-stream} is used. The body is sent with a copy of the request, which
+     * is left unchanged. As the chunks cannot be replayed, the request is neither retried nor hedged.
+     *
+     * @param request  The request, without a body
+     * @param chunks   The chunks of the body
+     * @param bodyType The response body type
+     * @param <O>      The response body type
+     * @return A {@link Flowable} that emits the full HTTP response
+     * @since 3.6.0
+     */
+    default <O> Flowable<HttpResponse<O>> exchangeBytes(@NonNull MutableHttpRequest<?> request, @NonNull Flowable<ByteBuffer<?>> chunks, @NonNull Argument<O> bodyType) {
+        MutableHttpRequest<Object> copy = HttpRequestCopy.of(request);
+        if (copy.getContentType().isEmpty()) {
+            copy.contentType(MediaType.APPLICATION_OCTET_STREAM_TYPE);
+        }
+        return exchange(copy.body(chunks), bodyType);
+    }
+
+    /**
+     * Sends the given elements as a JSON array in a chunked request body, emitting the full HTTP response. Each element
+     * is encoded as the connection accepts more data, so the body is never buffered as a whole. The body is sent with a
+     * copy of the request, which is left unchanged, and the request is neither retried nor hedged.
+     *
+     * @param request  The request, without a body
+     * @param elements The elements of the array
+     * @param bodyType The response body type
+     * @param <T>      The element type
+     * @param <O>      The response body type
+     * @return A {@link Flowable} that emits the full HTTP response
+     * @since 3.6.0
+     */
+    default <T, O> Flowable<HttpResponse<O>> exchangeJsonArray(@NonNull MutableHttpRequest<?> request, @NonNull Flowable<T> elements, @NonNull Argument<O> bodyType) {
+        return exchange(HttpRequestCopy.of(request).contentType(MediaType.APPLICATION_JSON_TYPE).body(elements), bodyType);
+    }
+
+    /**
+     * Sends the given elements as newline delimited JSON ({@code application/x-ndjson}) in a chunked request body,
+     * emitting the full HTTP response. Each element is encoded as the connection accepts more data, so the body is
+     * never buffered as a whole. The clients created by the application encode the elements with its
+     * {@link io.micronaut.json.JsonMapper}. The body is sent with a copy of the request, which is left unchanged, and
+     * the request is neither retried nor hedged.
+     *
+     * @param request  The request, without a body
+     * @param elements The elements, one per line
+     * @param bodyType The response body type
+     * @param <T>      The element type
+     * @param <O>      The response body type
+     * @return A {@link Flowable} that emits the full HTTP response
+     * @since 3.6.0
+     */
+    default <T, O> Flowable<HttpResponse<O>> exchangeNdjson(@NonNull MutableHttpRequest<?> request, @NonNull Flowable<T> elements, @NonNull Argument<O> bodyType) {
+        return exchange(HttpRequestCopy.of(request).contentType(NdjsonEncoder.NDJSON).body(NdjsonEncoder.encode(elements, null)), bodyType);
+    }
+
     /**
      * Create a new {@link Rx3StreamingHttpClient}.
      * Note that this method should only be used outside of the context of a Micronaut application.
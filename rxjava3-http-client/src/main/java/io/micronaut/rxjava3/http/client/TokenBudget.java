@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the extra requests (hedged or retried) of a client to a fraction of its requests: each request deposits the
+ * fraction of a token, each extra request withdraws a whole token. The budget starts full, so that a client can send
+ * a few extra requests before it sent enough requests to earn them.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class TokenBudget {
+
+    /**
+     * Tokens are counted in thousandths.
+     */
+    private static final long TOKEN = 1000;
+
+    private final long tokensPerRequest;
+    private final long maxTokens;
+    private final AtomicLong tokens;
+
+    /**
+     * @param ratio     The number of extra requests allowed per request, {@code 0} to allow none
+     * @param maxTokens The number of extra requests that can be saved up during a quiet period
+     */
+    TokenBudget(double ratio, int maxTokens) {
+        this.tokensPerRequest = (long) (ratio * TOKEN);
+        this.maxTokens = tokensPerRequest > 0 ? maxTokens * TOKEN : 0;
+        this.tokens = new AtomicLong(this.maxTokens);
+    }
+
+    /**
+     * Records a request.
+     */
+    void deposit() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current >= maxTokens) {
+                return;
+            }
+        } while (!tokens.compareAndSet(current, Math.min(maxTokens, current + tokensPerRequest)));
+    }
+
+    /**
+     * Withdraws a token for an extra request.
+     *
+     * @return Whether the extra request is allowed
+     */
+    boolean withdraw() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+}
@@ -17,10 +17,14 @@ package io.micronaut.rxjava3.http.client.proxy;
 
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.client.ProxyHttpClient;
+import io.micronaut.http.client.StreamingHttpClient;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Single;
 
 
 /**
@@ -34,6 +38,9 @@ class BridgedProxyRx3HttpClient implements Rx3ProxyHttpClient {
 
     private final ProxyHttpClient proxyHttpClient;
 
+    /**
+     * @param proxyHttpClient The client, which must also be a {@link StreamingHttpClient} to transform proxied bodies
+     */
     BridgedProxyRx3HttpClient(ProxyHttpClient proxyHttpClient) {
         this.proxyHttpClient = proxyHttpClient;
     }
@@ -42,4 +49,13 @@ class BridgedProxyRx3HttpClient implements Rx3ProxyHttpClient {
     public Flowable<MutableHttpResponse<?>> proxy(@NonNull HttpRequest<?> request) {
         return Flowable.fromPublisher(proxyHttpClient.proxy(request));
     }
+
+    @Override
+    public Single<MutableHttpResponse<?>> proxy(@NonNull HttpRequest<?> request,
+                                                @NonNull FlowableTransformer<ByteBuffer<?>, ByteBuffer<?>> bodyTransformer) {
+        if (proxyHttpClient instanceof StreamingHttpClient streamingHttpClient) {
+            return StreamingProxy.proxy(streamingHttpClient, request, bodyTransformer);
+        }
+        return Rx3ProxyHttpClient.super.proxy(request, bodyTransformer);
+    }
 }
@@ -17,11 +17,15 @@ package io.micronaut.rxjava3.http.client.proxy;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.ProxyHttpClient;
+import io.micronaut.http.client.StreamingHttpClient;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Single;
 
 import java.net.URL;
 
@@ -36,6 +40,29 @@ public interface Rx3ProxyHttpClient extends ProxyHttpClient {
     @Override
     Flowable<MutableHttpResponse<?>> proxy(@NonNull HttpRequest<?> request);
 
+    /**
+     * Proxies the given request and transforms the response body chunk by chunk on its way back, for example to rewrite
+     * fields of a large JSON document without buffering it. The response is emitted as soon as its head is received,
+     * with the transformed body as a {@link Flowable} of chunks that are only requested from the connection as the
+     * body is written downstream. As the transformation may change the size of the body, the
+     * {@code Content-Length} header is dropped and the body is sent chunked. Error responses are passed through the
+     * same way. The body must be subscribed within {@link StreamingProxy#BODY_SUBSCRIBE_TIMEOUT} of the response
+     * being emitted, otherwise the connection is cancelled. The transformation requires a client that is also a
+     * {@link StreamingHttpClient}, the default implementation emits an {@link UnsupportedOperationException} otherwise.
+     *
+     * @param request         The request, with the URI of the proxied service
+     * @param bodyTransformer The transformation applied to the body chunks, which must release the chunks it drops
+     * @return A {@link Single} that emits the response once its head is received
+     * @since 3.6.0
+     */
+    default Single<MutableHttpResponse<?>> proxy(@NonNull HttpRequest<?> request,
+                                                 @NonNull FlowableTransformer<ByteBuffer<?>, ByteBuffer<?>> bodyTransformer) {
+        if (this instanceof StreamingHttpClient streamingHttpClient) {
+            return StreamingProxy.proxy(streamingHttpClient, request, bodyTransformer);
+        }
+        return Single.error(new UnsupportedOperationException("Transforming the proxied body requires a streaming HTTP client"));
+    }
+
     /**
      * Create a new {@link Rx3ProxyHttpClient}.
      * Note that this method should only be used outside of the context of a Micronaut application.
@@ -23,8 +23,10 @@ import io.micronaut.context.annotation.Secondary;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.LoadBalancer;
+import io.micronaut.http.client.ProxyHttpClient;
 import io.micronaut.http.client.ProxyHttpClientRegistry;
 import io.micronaut.inject.InjectionPoint;
+import io.micronaut.rxjava3.http.client.BridgedClientCache;
 
 /**
  * Factory interface for creating {@link io.micronaut.http.client.sse.SseClient}.
@@ -35,6 +37,7 @@ import io.micronaut.inject.InjectionPoint;
 public class Rx3ProxyHttpClientFactory {
 
     private final ProxyHttpClientRegistry<?> clientRegistry;
+    private final BridgedClientCache<Rx3ProxyHttpClient> clients = new BridgedClientCache<>();
 
     /**
      * Default constructor.
@@ -58,7 +61,8 @@ public class Rx3ProxyHttpClientFactory {
                                            @Parameter @Nullable LoadBalancer loadBalancer,
                                            @Parameter @Nullable HttpClientConfiguration configuration,
                                            BeanContext beanContext) {
-        return new BridgedProxyRx3HttpClient(clientRegistry.resolveProxyHttpClient(injectionPoint, loadBalancer, configuration, beanContext));
+        ProxyHttpClient client = clientRegistry.resolveProxyHttpClient(injectionPoint, loadBalancer, configuration, beanContext);
+        return clients.get(client, null, () -> new BridgedProxyRx3HttpClient(client));
     }
 }
 
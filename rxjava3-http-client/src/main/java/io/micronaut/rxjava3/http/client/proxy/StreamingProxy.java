@@ -0,0 +1,315 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client.proxy;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.io.buffer.ReferenceCounted;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.client.StreamingHttpClient;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.core.SingleEmitter;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Proxies a request through the streaming API of the client, so the response body can be transformed chunk by chunk,
+ * see {@link Rx3ProxyHttpClient#proxy(HttpRequest, FlowableTransformer)}.
+ *
+ * @since 3.6.0
+ */
+@Internal
+public final class StreamingProxy {
+
+    /**
+     * How long the body of an emitted response may stay unsubscribed before the connection is given up.
+     */
+    public static final Duration BODY_SUBSCRIBE_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Headers that describe the original body or connection, which no longer apply to the transformed body.
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ENGLISH),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ENGLISH),
+            HttpHeaders.CONNECTION.toLowerCase(Locale.ENGLISH)
+    );
+
+    private StreamingProxy() {
+    }
+
+    /**
+     * @param client          The client
+     * @param request         The request
+     * @param bodyTransformer The transformation of the body chunks
+     * @return A {@link Single} that emits the response once its head is received
+     */
+    public static Single<MutableHttpResponse<?>> proxy(StreamingHttpClient client,
+                                                       HttpRequest<?> request,
+                                                       FlowableTransformer<ByteBuffer<?>, ByteBuffer<?>> bodyTransformer) {
+        return proxy(client, request, bodyTransformer, BODY_SUBSCRIBE_TIMEOUT, Schedulers.computation());
+    }
+
+    /**
+     * @param client               The client
+     * @param request              The request
+     * @param bodyTransformer      The transformation of the body chunks
+     * @param bodySubscribeTimeout How long the body may stay unsubscribed once the response is emitted, after which
+     *                             the held chunk is released and the connection is cancelled
+     * @param scheduler            The scheduler running the subscribe timeout
+     * @return A {@link Single} that emits the response once its head is received
+     */
+    public static Single<MutableHttpResponse<?>> proxy(StreamingHttpClient client,
+                                                       HttpRequest<?> request,
+                                                       FlowableTransformer<ByteBuffer<?>, ByteBuffer<?>> bodyTransformer,
+                                                       Duration bodySubscribeTimeout,
+                                                       Scheduler scheduler) {
+        return Single.create(emitter -> Flowable.fromPublisher(client.exchangeStream(request))
+                .subscribe(new SplitSubscriber(emitter, bodyTransformer, bodySubscribeTimeout, scheduler)));
+    }
+
+    private static MutableHttpResponse<Object> head(HttpResponse<?> response) {
+        MutableHttpResponse<Object> head = HttpResponse.status(response.code(), response.reason());
+        MutableHttpResponse<Object> target = head;
+        response.getHeaders().forEach((name, values) -> {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase(Locale.ENGLISH))) {
+                for (String value : values) {
+                    target.getHeaders().add(name, value);
+                }
+            }
+        });
+        return head;
+    }
+
+    private static void release(ByteBuffer<?> buffer) {
+        if (buffer instanceof ReferenceCounted referenceCounted) {
+            referenceCounted.release();
+        }
+    }
+
+    /**
+     * Splits the stream of partial responses into the response head, emitted as soon as the first partial response is
+     * received, and the body, emitted as a single-subscriber {@link Flowable}. Upstream is only requested on behalf of
+     * the body subscriber, so at most the first chunk is held while the head is processed. As nothing tells whether the
+     * response is dropped without subscribing to its body, the first chunk is released and upstream cancelled when the
+     * body is not subscribed within the subscribe timeout.
+     */
+    private static final class SplitSubscriber extends Flowable<ByteBuffer<?>>
+            implements FlowableSubscriber<HttpResponse<ByteBuffer<?>>>, Subscription {
+
+        private final SingleEmitter<MutableHttpResponse<?>> emitter;
+        private final FlowableTransformer<ByteBuffer<?>, ByteBuffer<?>> bodyTransformer;
+        private final Duration bodySubscribeTimeout;
+        private final Scheduler scheduler;
+
+        private Subscription upstream;
+        private Disposable subscribeTimeout;
+        private boolean headEmitted;
+        private Subscriber<? super ByteBuffer<?>> body;
+        private ByteBuffer<?> firstChunk;
+        private boolean done;
+        private Throwable error;
+        private boolean cancelled;
+
+        SplitSubscriber(SingleEmitter<MutableHttpResponse<?>> emitter, FlowableTransformer<ByteBuffer<?>, ByteBuffer<?>> bodyTransformer,
+                        Duration bodySubscribeTimeout, Scheduler scheduler) {
+            this.emitter = emitter;
+            this.bodyTransformer = bodyTransformer;
+            this.bodySubscribeTimeout = bodySubscribeTimeout;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            upstream = s;
+            emitter.setCancellable(() -> {
+                synchronized (this) {
+                    if (headEmitted) {
+                        return;
+                    }
+                }
+                cancel();
+            });
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(HttpResponse<ByteBuffer<?>> response) {
+            ByteBuffer<?> chunk = response.getBody().orElse(null);
+            if (!headEmitted) {
+                synchronized (this) {
+                    headEmitted = true;
+                    if (cancelled) {
+                        release(chunk);
+                        return;
+                    }
+                    firstChunk = chunk;
+                    subscribeTimeout = scheduler.scheduleDirect(this::onSubscribeTimeout, bodySubscribeTimeout.toNanos(), TimeUnit.NANOSECONDS);
+                }
+                MutableHttpResponse<Object> head = head(response);
+                head.body(compose(bodyTransformer));
+                emitter.onSuccess(head);
+                return;
+            }
+            boolean requestMore = false;
+            synchronized (this) {
+                if (cancelled) {
+                    release(chunk);
+                } else if (chunk == null) {
+                    requestMore = true;
+                } else {
+                    body.onNext(chunk);
+                }
+            }
+            if (requestMore) {
+                upstream.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (!headEmitted) {
+                headEmitted = true;
+                if (t instanceof HttpClientResponseException responseException) {
+                    // pass error responses through as they are, the transformation included
+                    HttpResponse<?> response = responseException.getResponse();
+                    MutableHttpResponse<Object> head = head(response);
+                    Flowable<ByteBuffer<?>> errorBody = response.getBody(ByteBuffer.class)
+                            .map(buffer -> Flowable.<ByteBuffer<?>>just(buffer))
+                            .orElse(Flowable.empty());
+                    head.body(errorBody.compose(bodyTransformer));
+                    emitter.onSuccess(head);
+                } else {
+                    emitter.onError(t);
+                }
+                return;
+            }
+            terminate(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (!headEmitted) {
+                headEmitted = true;
+                emitter.onError(new IllegalStateException("The response ended before its head was received"));
+                return;
+            }
+            terminate(null);
+        }
+
+        @Override
+        protected void subscribeActual(Subscriber<? super ByteBuffer<?>> subscriber) {
+            Disposable timeout;
+            synchronized (this) {
+                if (body != null || cancelled) {
+                    Flowable.<ByteBuffer<?>>error(new IllegalStateException("The proxied body only allows a single subscriber"))
+                            .subscribe(subscriber);
+                    return;
+                }
+                body = subscriber;
+                timeout = subscribeTimeout;
+                subscribeTimeout = null;
+            }
+            if (timeout != null) {
+                timeout.dispose();
+            }
+            subscriber.onSubscribe(this);
+        }
+
+        private void onSubscribeTimeout() {
+            synchronized (this) {
+                if (body != null || cancelled) {
+                    return;
+                }
+            }
+            cancel();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                ByteBuffer<?> first = firstChunk;
+                if (first != null) {
+                    firstChunk = null;
+                    body.onNext(first);
+                    n--;
+                }
+                if (done) {
+                    deliverTerminal();
+                    return;
+                }
+            }
+            if (n > 0) {
+                upstream.request(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            ByteBuffer<?> first;
+            Disposable timeout;
+            synchronized (this) {
+                cancelled = true;
+                first = firstChunk;
+                firstChunk = null;
+                timeout = subscribeTimeout;
+                subscribeTimeout = null;
+            }
+            if (timeout != null) {
+                timeout.dispose();
+            }
+            if (first != null) {
+                release(first);
+            }
+            upstream.cancel();
+        }
+
+        private synchronized void terminate(Throwable t) {
+            error = t;
+            done = true;
+            if (body != null && firstChunk == null && !cancelled) {
+                deliverTerminal();
+            }
+        }
+
+        private void deliverTerminal() {
+            cancelled = true;
+            if (error != null) {
+                body.onError(error);
+            } else {
+                body.onComplete();
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.client.sse.SseClient;
 import io.micronaut.http.sse.Event;
@@ -26,6 +27,12 @@ import io.micronaut.rxjava3.http.client.Rx3SseClient;
 import io.reactivex.rxjava3.core.Flowable;
 import org.reactivestreams.Publisher;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * RxJava 2 bridge for the Server side events HTTP client.
  *
@@ -36,6 +43,7 @@ import org.reactivestreams.Publisher;
 public class BridgedRx3SseClient implements Rx3SseClient, AutoCloseable  {
 
     private final SseClient sseClient;
+    private final Map<SharedStreamKey, Flowable<?>> sharedStreams = new ConcurrentHashMap<>();
 
     /**
      * Default constructor.
@@ -75,10 +83,53 @@ public class BridgedRx3SseClient implements Rx3SseClient, AutoCloseable  {
         return Flowable.fromPublisher(sseClient.eventStream(uri, eventType));
     }
 
+    @Override
+    public <I, B> Flowable<Event<B>> sharedEventStream(@NonNull HttpRequest<I> request,
+                                                       @NonNull Argument<B> eventType,
+                                                       int bufferSize,
+                                                       @NonNull SlowConsumerPolicy policy) {
+        SharedStreamKey key = SharedStreamKey.of(request, eventType);
+        // resolved on every subscription, so that subscribing again after the stream ended opens or joins a live one
+        return Flowable.defer(() -> {
+            @SuppressWarnings("unchecked")
+            Flowable<Event<B>> shared = (Flowable<Event<B>>) sharedStreams.computeIfAbsent(key, k -> share(k, request, eventType));
+            return shared;
+        }).compose(policy.buffer(bufferSize));
+    }
+
     @Override
     public void close() throws Exception {
         if (sseClient instanceof AutoCloseable) {
             ((AutoCloseable) sseClient).close();
         }
     }
+
+    private <B> Flowable<Event<B>> share(SharedStreamKey key, HttpRequest<?> request, Argument<B> eventType) {
+        Object[] self = new Object[1];
+        // removed before the subscribers see the end of the stream, so none of them can join the ended stream
+        Flowable<Event<B>> shared = Flowable.fromPublisher(sseClient.eventStream(request, eventType))
+                .doOnTerminate(() -> sharedStreams.remove(key, self[0]))
+                .doOnCancel(() -> sharedStreams.remove(key, self[0]))
+                .publish()
+                .refCount();
+        self[0] = shared;
+        return shared;
+    }
+
+    /**
+     * Identifies identical event stream requests.
+     *
+     * @param method    The method
+     * @param uri       The URI
+     * @param headers   The headers, with lower case names
+     * @param eventType The event type
+     */
+    private record SharedStreamKey(HttpMethod method, String uri, Map<String, List<String>> headers, Argument<?> eventType) {
+
+        static SharedStreamKey of(HttpRequest<?> request, Argument<?> eventType) {
+            Map<String, List<String>> headers = new HashMap<>();
+            request.getHeaders().forEach((name, values) -> headers.put(name.toLowerCase(Locale.ENGLISH), values));
+            return new SharedStreamKey(request.getMethod(), request.getUri().toString(), headers, eventType);
+        }
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client.sse;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.http.sse.Event;
+import io.micronaut.rxjava3.http.client.HttpRequestCopy;
+import io.micronaut.rxjava3.http.client.Rx3SseClient;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import org.reactivestreams.Publisher;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a long-lived event stream that reconnects when the connection drops, resuming from the last received event id.
+ *
+ * @since 3.6.0
+ */
+@Internal
+public final class ReconnectingEventStream {
+
+    /**
+     * The header carrying the id of the last received event.
+     */
+    public static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private ReconnectingEventStream() {
+    }
+
+    /**
+     * @param client    The client
+     * @param request   The request, copied with the last received event id to reconnect
+     * @param eventType The event type
+     * @param options   The options
+     * @param scheduler The scheduler running the reconnection delays
+     * @param <B>       The event data type
+     * @return The event stream
+     */
+    public static <B> Flowable<Event<B>> create(Rx3SseClient client,
+                                                MutableHttpRequest<?> request,
+                                                Argument<B> eventType,
+                                                SseReconnectOptions options,
+                                                Scheduler scheduler) {
+        return Flowable.defer(() -> {
+            State state = new State(options);
+            Flowable<Event<B>> events = Flowable.defer(() -> {
+                String lastEventId = state.lastEventId();
+                if (lastEventId == null) {
+                    return client.eventStream(request, eventType);
+                }
+                // resume on a copy, so the request of the caller is left untouched
+                MutableHttpRequest<Object> resumed = HttpRequestCopy.of(request);
+                resumed.getHeaders().set(LAST_EVENT_ID, lastEventId);
+                return client.eventStream(resumed, eventType);
+            }).doOnNext(state::received);
+            if (options.isReconnectOnComplete()) {
+                events = events.repeatWhen(completions -> completions.concatMap(ignored -> state.delay(scheduler)));
+            }
+            return events
+                    .retryWhen(errors -> errors.concatMap(error -> state.shouldRetry(error) ? state.delay(scheduler) : Flowable.error(error)))
+                    .filter(state::firstSeen);
+        });
+    }
+
+    /**
+     * The state of one subscription. Connections are sequential, the monitor only guards the hand-over between the
+     * threads of successive connections.
+     */
+    private static final class State {
+
+        private final SseReconnectOptions options;
+        private final Map<String, Boolean> seen;
+        private String lastEventId;
+        private Duration serverRetry;
+        private int attempts;
+
+        State(SseReconnectOptions options) {
+            this.options = options;
+            int window = options.getDeduplicationWindow();
+            this.seen = window == 0 ? null : new LinkedHashMap<>(Math.min(window, 64) * 2, 0.75f) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > window;
+                }
+            };
+        }
+
+        synchronized String lastEventId() {
+            return lastEventId;
+        }
+
+        synchronized void received(Event<?> event) {
+            attempts = 0;
+            if (event.getId() != null) {
+                lastEventId = event.getId();
+            }
+            if (event.getRetry() != null) {
+                serverRetry = event.getRetry();
+            }
+        }
+
+        synchronized boolean firstSeen(Event<?> event) {
+            String id = event.getId();
+            return seen == null || id == null || seen.put(id, Boolean.TRUE) == null;
+        }
+
+        synchronized boolean shouldRetry(Throwable error) {
+            int maxAttempts = options.getMaxAttempts();
+            if (maxAttempts >= 0 && attempts >= maxAttempts) {
+                return false;
+            }
+            if (error instanceof HttpClientResponseException responseException) {
+                int code = responseException.getResponse().code();
+                return code >= 500 || code == HttpStatus.REQUEST_TIMEOUT.getCode() || code == HttpStatus.TOO_MANY_REQUESTS.getCode();
+            }
+            return true;
+        }
+
+        synchronized Publisher<Long> delay(Scheduler scheduler) {
+            long base;
+            if (serverRetry != null) {
+                base = serverRetry.toMillis();
+            } else {
+                double exponential = options.getInitialDelay().toMillis() * Math.pow(options.getMultiplier(), attempts);
+                base = (long) Math.min(exponential, options.getMaxDelay().toMillis());
+            }
+            attempts++;
+            long delay = base - (long) (base * options.getJitter() * ThreadLocalRandom.current().nextDouble());
+            return Flowable.timer(delay, TimeUnit.MILLISECONDS, scheduler);
+        }
+    }
+}
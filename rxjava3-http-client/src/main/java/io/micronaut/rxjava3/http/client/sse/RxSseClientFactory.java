@@ -23,8 +23,10 @@ import io.micronaut.context.annotation.Secondary;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.LoadBalancer;
+import io.micronaut.http.client.sse.SseClient;
 import io.micronaut.http.client.sse.SseClientRegistry;
 import io.micronaut.inject.InjectionPoint;
+import io.micronaut.rxjava3.http.client.BridgedClientCache;
 import io.micronaut.rxjava3.http.client.Rx3SseClient;
 
 /**
@@ -36,6 +38,7 @@ import io.micronaut.rxjava3.http.client.Rx3SseClient;
 public class RxSseClientFactory {
 
     private final SseClientRegistry<?> clientRegistry;
+    private final BridgedClientCache<Rx3SseClient> clients = new BridgedClientCache<>();
 
     /**
      * Default constructor.
@@ -59,6 +62,7 @@ public class RxSseClientFactory {
                                      @Parameter @Nullable LoadBalancer loadBalancer,
                                      @Parameter @Nullable HttpClientConfiguration configuration,
                                      BeanContext beanContext) {
-        return new BridgedRx3SseClient(clientRegistry.resolveSseClient(injectionPoint, loadBalancer, configuration, beanContext));
+        SseClient client = clientRegistry.resolveSseClient(injectionPoint, loadBalancer, configuration, beanContext);
+        return clients.get(client, null, () -> new BridgedRx3SseClient(client));
     }
 }
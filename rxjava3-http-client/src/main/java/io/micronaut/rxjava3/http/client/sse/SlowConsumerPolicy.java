@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client.sse;
+
+import io.micronaut.core.annotation.NonNull;
+import io.reactivex.rxjava3.core.BackpressureOverflowStrategy;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+
+/**
+ * What happens to the events of a shared event stream that a subscriber does not consume fast enough, see
+ * {@link io.micronaut.rxjava3.http.client.Rx3SseClient#sharedEventStream(io.micronaut.http.HttpRequest, io.micronaut.core.type.Argument, int, SlowConsumerPolicy)}.
+ *
+ * @since 3.6.0
+ */
+public enum SlowConsumerPolicy {
+
+    /**
+     * New events are dropped while the buffer of the subscriber is full.
+     */
+    DROP(BackpressureOverflowStrategy.DROP_LATEST),
+
+    /**
+     * The oldest buffered event is dropped to make room for a new one, so the subscriber catches up with the latest events.
+     */
+    LATEST(BackpressureOverflowStrategy.DROP_OLDEST),
+
+    /**
+     * The subscriber is disconnected from the stream with a {@link io.reactivex.rxjava3.exceptions.MissingBackpressureException}
+     * once its buffer is full. The other subscribers are not affected.
+     */
+    DISCONNECT(BackpressureOverflowStrategy.ERROR);
+
+    private final BackpressureOverflowStrategy strategy;
+
+    SlowConsumerPolicy(BackpressureOverflowStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Returns a transformer giving a subscriber its own buffer, applying this policy when it is full.
+     *
+     * @param capacity The capacity of the buffer
+     * @param <T>      The element type
+     * @return The transformer
+     */
+    @NonNull
+    public <T> FlowableTransformer<T, T> buffer(int capacity) {
+        return upstream -> upstream.onBackpressureBuffer(capacity, null, strategy);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client.sse;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Options of a reconnecting event stream, see
+ * {@link io.micronaut.rxjava3.http.client.Rx3SseClient#reconnectingEventStream(io.micronaut.http.MutableHttpRequest, io.micronaut.core.type.Argument, SseReconnectOptions)}.
+ *
+ * @since 3.6.0
+ */
+public final class SseReconnectOptions {
+
+    /**
+     * The default initial delay.
+     */
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofSeconds(1);
+
+    /**
+     * The default maximum delay.
+     */
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+
+    /**
+     * The default multiplier.
+     */
+    public static final double DEFAULT_MULTIPLIER = 2;
+
+    /**
+     * The default jitter.
+     */
+    public static final double DEFAULT_JITTER = 0.5;
+
+    /**
+     * The default size of the window of event ids remembered for deduplication.
+     */
+    public static final int DEFAULT_DEDUPLICATION_WINDOW = 1024;
+
+    private Duration initialDelay = DEFAULT_INITIAL_DELAY;
+    private Duration maxDelay = DEFAULT_MAX_DELAY;
+    private double multiplier = DEFAULT_MULTIPLIER;
+    private double jitter = DEFAULT_JITTER;
+    private int maxAttempts = -1;
+    private int deduplicationWindow = DEFAULT_DEDUPLICATION_WINDOW;
+    private boolean reconnectOnComplete = true;
+
+    /**
+     * @return The delay before the first reconnection attempt
+     */
+    @NonNull
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * Sets the delay before the first reconnection attempt, multiplied by {@link #getMultiplier()} for every further
+     * consecutive attempt. A {@code retry} field sent by the server replaces it. Default value (1 second).
+     *
+     * @param initialDelay The initial delay
+     */
+    public void setInitialDelay(@NonNull Duration initialDelay) {
+        this.initialDelay = Objects.requireNonNull(initialDelay, "initialDelay");
+    }
+
+    /**
+     * @return The maximum delay between two reconnection attempts
+     */
+    @NonNull
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Sets the maximum delay between two reconnection attempts. Default value (30 seconds).
+     *
+     * @param maxDelay The maximum delay
+     */
+    public void setMaxDelay(@NonNull Duration maxDelay) {
+        this.maxDelay = Objects.requireNonNull(maxDelay, "maxDelay");
+    }
+
+    /**
+     * @return The factor applied to the delay after each consecutive failed attempt
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * Sets the factor applied to the delay after each consecutive failed attempt. Default value (2).
+     *
+     * @param multiplier The multiplier
+     */
+    public void setMultiplier(double multiplier) {
+        this.multiplier = Math.max(1, multiplier);
+    }
+
+    /**
+     * @return The fraction of the delay that is randomized
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Sets the fraction of the delay that is randomized, between 0 and 1. A delay {@code d} becomes a random value
+     * between {@code d * (1 - jitter)} and {@code d}, which spreads the reconnections of many clients dropped at the
+     * same time. Default value (0.5).
+     *
+     * @param jitter The jitter
+     */
+    public void setJitter(double jitter) {
+        this.jitter = Math.min(1, Math.max(0, jitter));
+    }
+
+    /**
+     * @return The maximum number of consecutive failed attempts, or a negative value for no limit
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Sets the maximum number of consecutive reconnection attempts that fail before the stream errors. The count is
+     * reset as soon as an event is received. Default value (-1, no limit).
+     *
+     * @param maxAttempts The maximum number of attempts
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * @return The number of event ids remembered to drop events that are received twice
+     */
+    public int getDeduplicationWindow() {
+        return deduplicationWindow;
+    }
+
+    /**
+     * Sets the number of most recent event ids remembered to drop events that the server replays after a
+     * reconnection. Use {@code 0} to disable deduplication. Default value (1024).
+     *
+     * @param deduplicationWindow The window size
+     */
+    public void setDeduplicationWindow(int deduplicationWindow) {
+        this.deduplicationWindow = Math.max(0, deduplicationWindow);
+    }
+
+    /**
+     * @return Whether to reconnect when the server ends the stream normally
+     */
+    public boolean isReconnectOnComplete() {
+        return reconnectOnComplete;
+    }
+
+    /**
+     * Sets whether to reconnect when the server ends the stream normally, as browsers do. Default value (true).
+     *
+     * @param reconnectOnComplete Whether to reconnect on completion
+     */
+    public void setReconnectOnComplete(boolean reconnectOnComplete) {
+        this.reconnectOnComplete = reconnectOnComplete;
+    }
+}
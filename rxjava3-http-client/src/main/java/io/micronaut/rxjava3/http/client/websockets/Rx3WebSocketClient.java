@@ -19,8 +19,10 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.MutableHttpRequest;
 import io.micronaut.http.client.HttpClientConfiguration;
+import io.micronaut.rxjava3.http.client.HttpRequestCopy;
 import io.micronaut.websocket.WebSocketClient;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
 
 import java.net.URI;
 import java.net.URL;
@@ -35,6 +37,11 @@ import java.util.Map;
  */
 public interface Rx3WebSocketClient extends WebSocketClient {
 
+    /**
+     * The default number of inbound messages buffered by a {@link Rx3WebSocketConnection}.
+     */
+    int DEFAULT_BUFFER_SIZE = 128;
+
     @Override
     <T extends AutoCloseable> Flowable<T> connect(Class<T> clientEndpointType, MutableHttpRequest<?> request);
 
@@ -57,6 +64,39 @@ public interface Rx3WebSocketClient extends WebSocketClient {
         return (Flowable<T>) WebSocketClient.super.connect(clientEndpointType, uri);
     }
 
+    /**
+     * Connects to the given URI and exposes the connection as reactive streams: inbound messages as a backpressured
+     * {@link Flowable}, and outbound messages sent from a {@link Flowable}, without having to write a
+     * {@link io.micronaut.websocket.annotation.ClientWebSocket} endpoint. Once {@code bufferSize} inbound messages are
+     * waiting for the subscriber, the handling of further messages is deferred until it has caught up. The handshake
+     * is sent with a copy of the request, which is left unchanged.
+     *
+     * @param request    The request
+     * @param bufferSize The maximum number of inbound messages buffered for the subscriber
+     * @return A {@link Single} that emits the connection once the handshake has completed
+     * @since 3.6.0
+     */
+    default Single<Rx3WebSocketConnection> connect(MutableHttpRequest<?> request, int bufferSize) {
+        // the buffer size has to be known before the handshake completes, when the first messages can arrive
+        MutableHttpRequest<Object> handshake = HttpRequestCopy.of(request);
+        handshake.setAttribute(Rx3WebSocketConnectionEndpoint.BUFFER_SIZE_ATTRIBUTE, bufferSize);
+        return Flowable.fromPublisher(connect(Rx3WebSocketConnectionEndpoint.class, handshake))
+                .firstOrError()
+                .map(Rx3WebSocketConnectionEndpoint::connection);
+    }
+
+    /**
+     * Connects to the given URI and exposes the connection as reactive streams, buffering up to
+     * {@link #DEFAULT_BUFFER_SIZE} inbound messages, see {@link #connect(MutableHttpRequest, int)}.
+     *
+     * @param request The request
+     * @return A {@link Single} that emits the connection once the handshake has completed
+     * @since 3.6.0
+     */
+    default Single<Rx3WebSocketConnection> connect(MutableHttpRequest<?> request) {
+        return connect(request, DEFAULT_BUFFER_SIZE);
+    }
+
     /**
      * Create a new {@link Rx3WebSocketClient}.
      * Note that this method should only be used outside of the context of a Micronaut application.
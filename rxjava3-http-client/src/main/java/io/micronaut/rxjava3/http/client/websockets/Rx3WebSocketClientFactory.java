@@ -23,6 +23,8 @@ import io.micronaut.context.annotation.Secondary;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.client.HttpClientConfiguration;
 import io.micronaut.http.client.LoadBalancer;
+import io.micronaut.rxjava3.http.client.BridgedClientCache;
+import io.micronaut.websocket.WebSocketClient;
 import io.micronaut.websocket.WebSocketClientRegistry;
 import io.micronaut.inject.InjectionPoint;
 
@@ -36,6 +38,7 @@ import io.micronaut.inject.InjectionPoint;
 public class Rx3WebSocketClientFactory {
 
     private final WebSocketClientRegistry<?> clientRegistry;
+    private final BridgedClientCache<Rx3WebSocketClient> clients = new BridgedClientCache<>();
 
     /**
      * Default constructor.
@@ -59,6 +62,7 @@ public class Rx3WebSocketClientFactory {
                                                  @Parameter @Nullable LoadBalancer loadBalancer,
                                                  @Parameter @Nullable HttpClientConfiguration configuration,
                                                  BeanContext beanContext) {
-        return new BridgedRx3WebSocketClient(clientRegistry.resolveWebSocketClient(injectionPoint, loadBalancer, configuration, beanContext));
+        WebSocketClient client = clientRegistry.resolveWebSocketClient(injectionPoint, loadBalancer, configuration, beanContext);
+        return clients.get(client, null, () -> new BridgedRx3WebSocketClient(client));
     }
 }
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client.websockets;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.rxjava3.http.client.FlowableBatch;
+import io.micronaut.websocket.CloseReason;
+import io.micronaut.websocket.WebSocketSession;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.functions.Function;
+import io.reactivex.rxjava3.processors.UnicastProcessor;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A WebSocket connection exposed as reactive streams, see
+ * {@link Rx3WebSocketClient#connect(io.micronaut.http.MutableHttpRequest, int)}.
+ *
+ * <p>Inbound messages are buffered for the subscriber of {@link #inbound()}, up to the buffer size of the connection.
+ * Once the buffer is full, the connection stops handing messages over until the subscriber has consumed half of it.</p>
+ *
+ * @since 3.6.0
+ */
+public final class Rx3WebSocketConnection {
+
+    private final WebSocketSession session;
+    private final JsonMapper jsonMapper;
+    private final UnicastProcessor<byte[]> inbound = UnicastProcessor.create();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final WebSocketSendStatistics sendStatistics = new WebSocketSendStatistics();
+    private final int highWatermark;
+    private final int lowWatermark;
+    private volatile CompletableSubject resume;
+
+    /**
+     * @param session    The session
+     * @param bufferSize The maximum number of inbound messages buffered for the subscriber
+     * @param jsonMapper The mapper decoding the inbound JSON messages, or {@code null} when there is no mapper bean
+     */
+    Rx3WebSocketConnection(WebSocketSession session, int bufferSize, @Nullable JsonMapper jsonMapper) {
+        this.session = session;
+        this.jsonMapper = jsonMapper;
+        this.highWatermark = Math.max(1, bufferSize);
+        this.lowWatermark = highWatermark >> 1;
+    }
+
+    /**
+     * @return The underlying session
+     */
+    @NonNull
+    public WebSocketSession getSession() {
+        return session;
+    }
+
+    /**
+     * Returns the inbound messages as raw bytes, completing when the connection is closed. Only one subscriber is allowed.
+     *
+     * @return The inbound messages
+     */
+    @NonNull
+    public Flowable<byte[]> inbound() {
+        return inbound.doOnNext(message -> consumed());
+    }
+
+    /**
+     * Returns the inbound text messages. Only one subscriber is allowed across the inbound streams.
+     *
+     * @return The inbound messages
+     */
+    @NonNull
+    public Flowable<String> inboundText() {
+        return inbound().map(message -> new String(message, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the inbound messages decoded from JSON with the {@link JsonMapper} of the application. Only one
+     * subscriber is allowed across the inbound streams.
+     *
+     * @param type The message type
+     * @param <T>  The message type
+     * @return The inbound messages
+     */
+    @NonNull
+    public <T> Flowable<T> inbound(@NonNull Argument<T> type) {
+        JsonMapper mapper = jsonMapper != null ? jsonMapper : MapperHolder.MAPPER;
+        return inbound().map(message -> mapper.readValue(message, type));
+    }
+
+    /**
+     * Sends the given messages, one at a time: a message is only requested once the previous one has been written.
+     *
+     * @param messages The messages, encoded like the messages of {@link WebSocketSession#send(Object)}
+     * @return A {@link Completable} that completes once all the messages have been sent
+     */
+    @NonNull
+    public Completable send(@NonNull Flowable<?> messages) {
+        return messages.concatMapCompletable(message -> Completable.fromPublisher(session.send(message)));
+    }
+
+    /**
+     * Sends the given messages coalesced into fewer frames, so that a high rate of small messages does not cost one
+     * write and flush each. Messages are collected until {@code maxMessages} messages or {@code maxBytes} bytes are
+     * pending, or {@code window} has elapsed since the first pending message, then combined into one frame by the
+     * combiner. Larger frames also compress better when the permessage-deflate extension is negotiated. Frames are
+     * sent one at a time, and messages are only requested as frames are written.
+     *
+     * @param messages    The messages
+     * @param maxMessages The maximum number of messages per frame
+     * @param maxBytes    The size at which a frame is sent, counting {@code byte[]}, {@link CharSequence} and buffer messages
+     * @param window      The maximum time a message is held back, or {@code null} to only send full frames
+     * @param combiner    Combines the messages of a frame into the message to send, for example a JSON array
+     * @param <T>         The message type
+     * @return A {@link Completable} that completes once all the messages have been sent
+     */
+    @NonNull
+    public <T> Completable sendBatched(@NonNull Flowable<T> messages,
+                                       int maxMessages,
+                                       long maxBytes,
+                                       @Nullable Duration window,
+                                       @NonNull Function<List<T>, ?> combiner) {
+        return sendBatched(messages, maxMessages, maxBytes, window, combiner, Schedulers.computation());
+    }
+
+    /**
+     * Sends the given messages coalesced into fewer frames, timing the windows on the given scheduler.
+     *
+     * @param messages    The messages
+     * @param maxMessages The maximum number of messages per frame
+     * @param maxBytes    The size at which a frame is sent
+     * @param window      The maximum time a message is held back, or {@code null} to only send full frames
+     * @param combiner    Combines the messages of a frame into the message to send
+     * @param scheduler   The scheduler timing the windows
+     * @param <T>         The message type
+     * @return A {@link Completable} that completes once all the messages have been sent
+     * @see #sendBatched(Flowable, int, long, Duration, Function)
+     */
+    <T> Completable sendBatched(Flowable<T> messages,
+                                int maxMessages,
+                                long maxBytes,
+                                @Nullable Duration window,
+                                Function<List<T>, ?> combiner,
+                                Scheduler scheduler) {
+        return new FlowableBatch<>(messages, maxMessages, window != null ? window.toNanos() : 0, scheduler,
+                Rx3WebSocketConnection::sizeOf, maxBytes)
+                .concatMapCompletable(batch -> {
+                    long size = 0;
+                    for (T message : batch) {
+                        size += sizeOf(message);
+                    }
+                    sendStatistics.recordFrame(batch.size(), size);
+                    return Completable.fromPublisher(session.send(combiner.apply(batch)));
+                });
+    }
+
+    /**
+     * @return The statistics of the messages sent with {@link #sendBatched}
+     */
+    @NonNull
+    public WebSocketSendStatistics getSendStatistics() {
+        return sendStatistics;
+    }
+
+    /**
+     * Closes the connection.
+     *
+     * @return A {@link Completable} that completes once the connection is closed
+     */
+    @NonNull
+    public Completable close() {
+        return Completable.fromAction(() -> session.close(CloseReason.NORMAL));
+    }
+
+    /**
+     * @return The number of inbound messages waiting for the subscriber
+     */
+    int buffered() {
+        return pending.get();
+    }
+
+    /**
+     * Hands an inbound message over to the subscriber.
+     *
+     * @param message The message
+     * @return A {@link Completable} that completes once the connection accepts further messages
+     */
+    Completable received(byte[] message) {
+        int count = pending.incrementAndGet();
+        inbound.onNext(message);
+        if (count < highWatermark) {
+            return Completable.complete();
+        }
+        CompletableSubject subject = CompletableSubject.create();
+        resume = subject;
+        // the subscriber may have caught up in the meantime
+        if (pending.get() <= lowWatermark) {
+            subject.onComplete();
+        }
+        return subject;
+    }
+
+    /**
+     * Completes the inbound messages.
+     */
+    void closed() {
+        inbound.onComplete();
+        resumeReading();
+    }
+
+    /**
+     * Fails the inbound messages.
+     *
+     * @param error The error
+     */
+    void failed(Throwable error) {
+        inbound.onError(error);
+        resumeReading();
+    }
+
+    private void consumed() {
+        if (pending.decrementAndGet() <= lowWatermark) {
+            resumeReading();
+        }
+    }
+
+    private void resumeReading() {
+        CompletableSubject subject = resume;
+        if (subject != null) {
+            resume = null;
+            subject.onComplete();
+        }
+    }
+
+    private static long sizeOf(Object message) {
+        if (message instanceof byte[] bytes) {
+            return bytes.length;
+        } else if (message instanceof CharSequence text) {
+            return text.length();
+        } else if (message instanceof ByteBuffer<?> buffer) {
+            return buffer.readableBytes();
+        } else if (message instanceof java.nio.ByteBuffer buffer) {
+            return buffer.remaining();
+        }
+        return 0;
+    }
+
+    /**
+     * Holds the mapper used without a mapper bean, for an endpoint created outside of a bean context, created on first use.
+     */
+    private static final class MapperHolder {
+        static final JsonMapper MAPPER = JsonMapper.createDefault();
+    }
+}
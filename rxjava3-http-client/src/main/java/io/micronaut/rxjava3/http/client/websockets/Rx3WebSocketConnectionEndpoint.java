@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client.websockets;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.websocket.WebSocketSession;
+import io.micronaut.websocket.annotation.ClientWebSocket;
+import io.micronaut.websocket.annotation.OnClose;
+import io.micronaut.websocket.annotation.OnError;
+import io.micronaut.websocket.annotation.OnMessage;
+import io.micronaut.websocket.annotation.OnOpen;
+import io.reactivex.rxjava3.core.Completable;
+
+/**
+ * Client endpoint backing {@link Rx3WebSocketConnection}.
+ *
+ * @since 3.6.0
+ */
+@Internal
+@ClientWebSocket
+public class Rx3WebSocketConnectionEndpoint implements AutoCloseable {
+
+    /**
+     * The attribute of the handshake request holding the buffer size of the connection.
+     */
+    static final String BUFFER_SIZE_ATTRIBUTE = "micronaut.rxjava3.websocket.buffer-size";
+
+    private final JsonMapper jsonMapper;
+    private volatile Rx3WebSocketConnection connection;
+    private volatile WebSocketSession session;
+
+    /**
+     * @param jsonMapper The mapper of the application, decoding the inbound JSON messages
+     */
+    public Rx3WebSocketConnectionEndpoint(@Nullable JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Creates the connection with the buffer size passed in the handshake request, before any message is received.
+     *
+     * @param session The session
+     * @param request The handshake request
+     */
+    @OnOpen
+    public void onOpen(WebSocketSession session, HttpRequest<?> request) {
+        int bufferSize = request.getAttribute(BUFFER_SIZE_ATTRIBUTE, Integer.class).orElse(Rx3WebSocketClient.DEFAULT_BUFFER_SIZE);
+        this.session = session;
+        this.connection = new Rx3WebSocketConnection(session, bufferSize, jsonMapper);
+    }
+
+    /**
+     * Hands the message over to the connection. The returned completable only completes once the connection accepts
+     * further messages, which defers the handling of the next message.
+     *
+     * @param message The message
+     * @return A completable that completes once the connection accepts further messages
+     */
+    @OnMessage
+    public Completable onMessage(byte[] message) {
+        return connection.received(message);
+    }
+
+    /**
+     * Completes the inbound messages.
+     */
+    @OnClose
+    public void onClose() {
+        Rx3WebSocketConnection c = connection;
+        if (c != null) {
+            c.closed();
+        }
+    }
+
+    /**
+     * Fails the inbound messages.
+     *
+     * @param error The error
+     */
+    @OnError
+    public void onError(Throwable error) {
+        Rx3WebSocketConnection c = connection;
+        if (c != null) {
+            c.failed(error);
+        }
+    }
+
+    @Override
+    public void close() {
+        WebSocketSession s = session;
+        if (s != null) {
+            s.close();
+        }
+    }
+
+    /**
+     * @return The connection
+     */
+    Rx3WebSocketConnection connection() {
+        return connection;
+    }
+}
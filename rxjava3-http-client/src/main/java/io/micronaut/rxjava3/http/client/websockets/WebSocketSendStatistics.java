@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.http.client.websockets;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the messages sent through {@link Rx3WebSocketConnection#sendBatched}, to tell how well messages are
+ * coalesced into frames.
+ *
+ * @since 3.6.0
+ */
+public final class WebSocketSendStatistics {
+
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    /**
+     * @return The number of messages sent
+     */
+    public long getMessages() {
+        return messages.sum();
+    }
+
+    /**
+     * @return The number of frames (and flushes) the messages were sent in
+     */
+    public long getFrames() {
+        return frames.sum();
+    }
+
+    /**
+     * @return The number of bytes of the messages, as far as their size is known
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * @return The average number of messages per frame, or {@code 0} if nothing was sent
+     */
+    public double getMessagesPerFrame() {
+        long f = frames.sum();
+        return f == 0 ? 0 : (double) messages.sum() / f;
+    }
+
+    /**
+     * @param messageCount The number of messages of the frame
+     * @param byteCount    The size of the messages
+     */
+    void recordFrame(int messageCount, long byteCount) {
+        messages.add(messageCount);
+        frames.increment();
+        bytes.add(byteCount);
+    }
+}
@@ -0,0 +1,43 @@
+package io.micronaut.rxjava3.http.client
+
+import spock.lang.Specification
+
+class BridgedClientCacheSpec extends Specification {
+
+    BridgedClientCache<Object> cache = new BridgedClientCache<>()
+
+    void "test wrappers are cached per client identity and options"() {
+        given:
+        Object client = new Object()
+        int created = 0
+        Closure<Object> factory = { created++; new Object() }
+
+        when:
+        Object first = cache.get(client, "a", factory)
+        Object second = cache.get(client, "a", factory)
+        Object other = cache.get(client, "b", factory)
+        Object otherClient = cache.get(new Object(), "a", factory)
+
+        then:
+        first.is(second)
+        !first.is(other)
+        !first.is(otherClient)
+        created == 3
+    }
+
+    void "test a wrapper is kept while no bean holds it, so that the state of its pipeline survives"() {
+        given:
+        Object client = new Object()
+        int created = 0
+        Closure<Object> factory = { created++; new Object() }
+        cache.get(client, "a", factory)
+
+        when:
+        System.gc()
+        cache.get(client, "a", factory)
+
+        then:
+        created == 1
+        cache.size() == 1
+    }
+}
@@ -0,0 +1,68 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.http.client.exceptions.ReadTimeoutException
+import io.reactivex.rxjava3.core.Flowable
+import spock.lang.Specification
+
+import java.time.Duration
+
+class CircuitBreakerSpec extends Specification {
+
+    long now = 0
+
+    CircuitBreaker circuitBreaker() {
+        Rx3HttpClientConfiguration.CircuitBreakerConfiguration configuration = new Rx3HttpClientConfiguration.CircuitBreakerConfiguration()
+        configuration.enabled = true
+        configuration.minimumCalls = 4
+        configuration.openDuration = Duration.ofSeconds(10)
+        configuration.probes = 2
+        new CircuitBreaker(configuration, { now })
+    }
+
+    void "test the circuit opens when the failure rate crosses the threshold and closes after successful probes"() {
+        given:
+        CircuitBreaker circuitBreaker = circuitBreaker()
+        Flowable<String> failure = Flowable.error(ReadTimeoutException.TIMEOUT_EXCEPTION)
+        Flowable<String> success = Flowable.just("ok")
+
+        when:
+        2.times { Flowable.fromPublisher(circuitBreaker.apply(success)).test().assertResult("ok") }
+        2.times { Flowable.fromPublisher(circuitBreaker.apply(failure)).test() }
+
+        then:
+        circuitBreaker.state == CircuitBreakerStatistics.State.OPEN
+        Flowable.fromPublisher(circuitBreaker.apply(success)).test().assertError(CircuitOpenException)
+        circuitBreaker.shortCircuited == 1
+
+        when:
+        now += Duration.ofSeconds(10).toNanos()
+        Flowable.fromPublisher(circuitBreaker.apply(success)).test().assertResult("ok")
+
+        then:
+        circuitBreaker.state == CircuitBreakerStatistics.State.HALF_OPEN
+
+        when:
+        Flowable.fromPublisher(circuitBreaker.apply(success)).test().assertResult("ok")
+
+        then:
+        circuitBreaker.state == CircuitBreakerStatistics.State.CLOSED
+        circuitBreaker.getTransitions(CircuitBreakerStatistics.State.OPEN) == 1
+        circuitBreaker.getTransitions(CircuitBreakerStatistics.State.HALF_OPEN) == 1
+        circuitBreaker.getTransitions(CircuitBreakerStatistics.State.CLOSED) == 1
+    }
+
+    void "test a failed probe opens the circuit again"() {
+        given:
+        CircuitBreaker circuitBreaker = circuitBreaker()
+        Flowable<String> failure = Flowable.error(ReadTimeoutException.TIMEOUT_EXCEPTION)
+
+        when:
+        4.times { Flowable.fromPublisher(circuitBreaker.apply(failure)).test() }
+        now += Duration.ofSeconds(10).toNanos()
+        Flowable.fromPublisher(circuitBreaker.apply(failure)).test()
+
+        then:
+        circuitBreaker.state == CircuitBreakerStatistics.State.OPEN
+        circuitBreaker.getTransitions(CircuitBreakerStatistics.State.OPEN) == 2
+    }
+}
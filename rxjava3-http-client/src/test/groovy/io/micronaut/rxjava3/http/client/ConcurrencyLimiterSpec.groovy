@@ -0,0 +1,147 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.exceptions.HttpClientException
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.client.exceptions.ReadTimeoutException
+import io.micronaut.http.codec.CodecException
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.processors.PublishProcessor
+import io.reactivex.rxjava3.subscribers.TestSubscriber
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeoutException
+
+class ConcurrencyLimiterSpec extends Specification {
+
+    ConcurrencyLimiter limiter(int initialLimit, int maxQueueSize,
+                               Duration latencyThreshold = Rx3HttpClientConfiguration.ConcurrencyLimitConfiguration.DEFAULT_LATENCY_THRESHOLD) {
+        Rx3HttpClientConfiguration.ConcurrencyLimitConfiguration configuration = new Rx3HttpClientConfiguration.ConcurrencyLimitConfiguration()
+        configuration.enabled = true
+        configuration.initialLimit = initialLimit
+        configuration.maxQueueSize = maxQueueSize
+        configuration.latencyThreshold = latencyThreshold
+        new ConcurrencyLimiter(configuration)
+    }
+
+    void "test requests over the limit are rejected when the queue is full"() {
+        given:
+        ConcurrencyLimiter limiter = limiter(2, 0)
+        PublishProcessor<String> response = PublishProcessor.create()
+
+        when:
+        TestSubscriber<String> first = Flowable.fromPublisher(limiter.apply(response)).test()
+        TestSubscriber<String> second = Flowable.fromPublisher(limiter.apply(response)).test()
+        TestSubscriber<String> third = Flowable.fromPublisher(limiter.apply(response)).test()
+
+        then:
+        limiter.inFlight == 2
+        third.assertError(ConcurrencyLimitExceededException)
+        limiter.rejected == 1
+
+        when:
+        response.onNext("ok")
+        response.onComplete()
+
+        then:
+        first.assertResult("ok")
+        second.assertResult("ok")
+        limiter.inFlight == 0
+        limiter.limit == 2
+    }
+
+    void "test queued requests start when a slot is released"() {
+        given:
+        ConcurrencyLimiter limiter = limiter(1, 10)
+        PublishProcessor<String> first = PublishProcessor.create()
+        PublishProcessor<String> second = PublishProcessor.create()
+
+        when:
+        Flowable.fromPublisher(limiter.apply(first)).test()
+        TestSubscriber<String> queued = Flowable.fromPublisher(limiter.apply(second)).test()
+
+        then:
+        !second.hasSubscribers()
+        limiter.queued == 1
+
+        when:
+        first.onComplete()
+
+        then:
+        second.hasSubscribers()
+        limiter.queued == 0
+
+        when:
+        queued.cancel()
+
+        then:
+        limiter.inFlight == 0
+    }
+
+    void "test the limit shrinks when the server is overloaded"() {
+        given:
+        ConcurrencyLimiter limiter = limiter(10, 0)
+
+        when:
+        Flowable.fromPublisher(limiter.apply(Flowable.error(new HttpClientResponseException("Unavailable", HttpResponse.status(HttpStatus.SERVICE_UNAVAILABLE))))).test()
+
+        then:
+        limiter.limit == 9
+        limiter.inFlight == 0
+    }
+
+    void "test only overload signals shrink the limit"() {
+        given:
+        ConcurrencyLimiter limiter = limiter(10, 0)
+
+        when:
+        Flowable.fromPublisher(limiter.apply(Flowable.error(error))).test()
+
+        then:
+        limiter.limit == (overload ? 9 : 10)
+        limiter.inFlight == 0
+
+        where:
+        error                                                                                           | overload
+        new HttpClientResponseException("Too many", HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS)) | true
+        ReadTimeoutException.TIMEOUT_EXCEPTION                                                          | true
+        new TimeoutException()                                                                          | true
+        new HttpClientException("Connect Error", new ConnectException("Connection refused"))            | true
+        new ConnectException("Connection refused")                                                      | true
+        new HttpClientResponseException("Not found", HttpResponse.status(HttpStatus.NOT_FOUND))        | false
+        new HttpClientResponseException("Error", HttpResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)) | false
+        new CodecException("Invalid body")                                                              | false
+        new IllegalStateException()                                                                     | false
+    }
+
+    void "test the limit shrinks on slow calls and regrows by about one per limit's worth of fast calls"() {
+        given:
+        ConcurrencyLimiter limiter = limiter(10, 0, Duration.ofMillis(20))
+
+        when: 'slow calls'
+        5.times {
+            PublishProcessor<String> response = PublishProcessor.create()
+            Flowable.fromPublisher(limiter.apply(response)).test()
+            Thread.sleep(40)
+            response.onComplete()
+        }
+
+        then: '10 * 0.9^5'
+        limiter.limit == 5
+
+        when: 'rounds of fast calls using the whole limit'
+        List<Integer> limits = [limiter.limit]
+        20.times {
+            List<PublishProcessor<String>> responses = (1..limiter.limit).collect { PublishProcessor.<String>create() }
+            responses.each { Flowable.fromPublisher(limiter.apply(it)).test() }
+            responses.each { it.onComplete() }
+            limits << limiter.limit
+        }
+
+        then:
+        limits.last() >= 10
+        (1..<limits.size()).every { limits[it] - limits[it - 1] in [0, 1] }
+    }
+}
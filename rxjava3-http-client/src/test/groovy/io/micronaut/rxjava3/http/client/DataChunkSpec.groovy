@@ -0,0 +1,85 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Produces
+import io.micronaut.http.MediaType
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.schedulers.Schedulers
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+
+@MicronautTest
+@Property(name = 'spec.name', value = 'DataChunkSpec')
+class DataChunkSpec extends Specification {
+
+    static final int CHUNKS = 64
+    static final int CHUNK_SIZE = 8192
+
+    @Inject
+    @Client("/")
+    Rx3StreamingHttpClient client
+
+    void "test data chunks are written to a channel"() {
+        given:
+        Path file = Files.createTempFile("data-chunk", ".bin")
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)
+
+        when:
+        long written = client.dataChunks(HttpRequest.GET("/rxjava/chunks"))
+                .to(DataChunk.writeTo(channel, Schedulers.io()))
+                .blockingGet()
+        channel.close()
+
+        then:
+        written == CHUNKS * CHUNK_SIZE
+        Files.readAllBytes(file) == expected()
+
+        cleanup:
+        Files.deleteIfExists(file)
+    }
+
+    void "test data chunks are released once"() {
+        when:
+        List<DataChunk> chunks = client.dataChunks(HttpRequest.GET("/rxjava/chunks")).toList().blockingGet()
+
+        then:
+        chunks.sum { it.readableBytes() } == CHUNKS * CHUNK_SIZE
+        chunks.every { it.release() }
+        chunks.every { it.released }
+        chunks.every { !it.release() }
+    }
+
+    static byte[] expected() {
+        byte[] bytes = new byte[CHUNKS * CHUNK_SIZE]
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i / CHUNK_SIZE)
+        }
+        bytes
+    }
+
+    @Requires(property = 'spec.name', value = 'DataChunkSpec')
+    @Controller("/rxjava/chunks")
+    static class ChunkController {
+
+        @Get
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        Flowable<byte[]> chunks() {
+            Flowable.range(0, CHUNKS).map { int i ->
+                byte[] chunk = new byte[CHUNK_SIZE]
+                Arrays.fill(chunk, (byte) i)
+                chunk
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.buffer.netty.NettyByteBufferFactory
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Bean
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.core.io.buffer.ReferenceCounted
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Produces
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.buffer.Unpooled
+import io.reactivex.rxjava3.core.Flowable
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadFactory
+
+class DeliverySchedulerSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'DeliverySchedulerSpec',
+            'rxjava3.http.clients.single-delivery.delivery.scheduler': 'single',
+            'micronaut.http.services.single-delivery.url': 'http://localhost:${micronaut.server.port}',
+            'rxjava3.http.clients.executor-delivery.delivery.scheduler': 'delivery-spec',
+            'micronaut.http.services.executor-delivery.url': 'http://localhost:${micronaut.server.port}'
+    ])
+
+    void "test results are delivered on the configured scheduler"() {
+        given:
+        Rx3StreamingHttpClient client = server.applicationContext.getBean(ClientHolder).single
+
+        expect:
+        client.retrieve(HttpRequest.GET("/rxjava/delivery/hello"), String)
+                .map { Thread.currentThread().name }
+                .blockingFirst()
+                .startsWith('RxSingleScheduler')
+        client.exchange(HttpRequest.GET("/rxjava/delivery/hello"), String)
+                .map { Thread.currentThread().name }
+                .blockingFirst()
+                .startsWith('RxSingleScheduler')
+        client.jsonStream(HttpRequest.GET("/rxjava/delivery/stream"), Integer)
+                .map { Thread.currentThread().name }
+                .toList()
+                .blockingGet()
+                .every { it.startsWith('RxSingleScheduler') }
+    }
+
+    void "test errors are delivered on the configured scheduler"() {
+        given:
+        Rx3StreamingHttpClient client = server.applicationContext.getBean(ClientHolder).single
+
+        expect:
+        client.retrieve(HttpRequest.GET("/rxjava/delivery/missing"), String)
+                .onErrorReturn { Thread.currentThread().name }
+                .blockingFirst()
+                .startsWith('RxSingleScheduler')
+    }
+
+    void "test results are delivered on a named executor"() {
+        given:
+        Rx3StreamingHttpClient client = server.applicationContext.getBean(ClientHolder).executor
+
+        expect:
+        client.retrieve(HttpRequest.GET("/rxjava/delivery/hello"), String)
+                .map { Thread.currentThread().name }
+                .blockingFirst() == 'delivery-spec-thread'
+    }
+
+    void "test results are delivered on the event loop without configuration"() {
+        given:
+        Rx3HttpClient client = Rx3HttpClient.create(server.URL)
+
+        when:
+        String thread = client.retrieve(HttpRequest.GET("/rxjava/delivery/hello"), String)
+                .map { Thread.currentThread().name }
+                .blockingFirst()
+
+        then:
+        !thread.startsWith('RxSingleScheduler')
+        thread != 'delivery-spec-thread'
+        thread != Thread.currentThread().name
+
+        cleanup:
+        client.close()
+    }
+
+    void "test buffer streams are delivered on the event loop and released by the subscriber when cancelled"() {
+        given:
+        Rx3StreamingHttpClient client = server.applicationContext.getBean(ClientHolder).single
+        List<String> threads = []
+
+        when:
+        List<ByteBuffer<?>> received = client.dataStream(HttpRequest.GET("/rxjava/delivery/data"))
+                .doOnNext { threads << Thread.currentThread().name }
+                .take(2)
+                .toList()
+                .blockingGet()
+        received.each { ((ReferenceCounted) it).release() }
+
+        then:
+        received.size() == 2
+        threads.every { !it.startsWith('RxSingleScheduler') }
+        received.every { it.asNativeBuffer().refCnt() == 0 }
+    }
+
+    void "test no buffer is left unreleased when a buffer stream is cancelled mid-stream"() {
+        given:
+        Rx3HttpClientConfiguration configuration = server.applicationContext.getBean(Rx3HttpClientConfiguration, Qualifiers.byName('single-delivery'))
+        Rx3ClientPipeline pipeline = Rx3ClientPipeline.of(configuration, server.applicationContext)
+        List<ByteBuffer<?>> emitted = []
+        Flowable<ByteBuffer<?>> buffers = Flowable.range(0, 100).map { int i ->
+            ByteBuffer<?> buffer = NettyByteBufferFactory.DEFAULT.wrap(Unpooled.copiedBuffer([(byte) i] as byte[]))
+            emitted << buffer
+            buffer
+        }
+
+        when:
+        List<ByteBuffer<?>> received = Flowable.fromPublisher(pipeline.applyBufferStream(HttpRequest.GET("/"), buffers))
+                .take(2)
+                .toList()
+                .blockingGet()
+        received.each { ((ReferenceCounted) it).release() }
+
+        then:
+        received.size() == 2
+        emitted.every { it.asNativeBuffer().refCnt() == 0 }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'DeliverySchedulerSpec')
+    static class ClientHolder {
+        final Rx3StreamingHttpClient single
+        final Rx3StreamingHttpClient executor
+
+        ClientHolder(@Client("single-delivery") Rx3StreamingHttpClient single,
+                     @Client("executor-delivery") Rx3StreamingHttpClient executor) {
+            this.single = single
+            this.executor = executor
+        }
+    }
+
+    @Factory
+    @Requires(property = 'spec.name', value = 'DeliverySchedulerSpec')
+    static class ExecutorFactory {
+
+        @Singleton
+        @Named('delivery-spec')
+        @Bean(preDestroy = 'shutdown')
+        ExecutorService deliveryExecutor() {
+            Executors.newSingleThreadExecutor({ Runnable runnable -> new Thread(runnable, 'delivery-spec-thread') } as ThreadFactory)
+        }
+    }
+
+    @Controller("/rxjava/delivery")
+    @Requires(property = 'spec.name', value = 'DeliverySchedulerSpec')
+    static class DeliveryController {
+
+        @Get("/hello")
+        String hello() {
+            "Hello"
+        }
+
+        @Get("/stream")
+        List<Integer> stream() {
+            (1..10).toList()
+        }
+
+        @Get("/data")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        Flowable<byte[]> data() {
+            Flowable.range(0, 64).map { int i ->
+                byte[] chunk = new byte[8192]
+                Arrays.fill(chunk, (byte) i)
+                chunk
+            }
+        }
+
+        @Get("/missing")
+        HttpResponse<String> missing() {
+            HttpResponse.notFound()
+        }
+    }
+}
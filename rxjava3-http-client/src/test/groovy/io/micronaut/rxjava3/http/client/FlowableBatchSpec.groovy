@@ -0,0 +1,150 @@
+package io.micronaut.rxjava3.http.client
+
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.FlowableSubscriber
+import io.reactivex.rxjava3.processors.PublishProcessor
+import io.reactivex.rxjava3.schedulers.TestScheduler
+import io.reactivex.rxjava3.subscribers.TestSubscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class FlowableBatchSpec extends Specification {
+
+    void "test elements are emitted in full batches"() {
+        expect:
+        new FlowableBatch<>(Flowable.range(0, 10), 4, 0, new TestScheduler()).toList().blockingGet() ==
+                [[0, 1, 2, 3], [4, 5, 6, 7], [8, 9]]
+    }
+
+    void "test a partial batch is emitted after the delay"() {
+        given:
+        TestScheduler scheduler = new TestScheduler()
+        PublishProcessor<Integer> source = PublishProcessor.create()
+        TestSubscriber<List<Integer>> subscriber = new FlowableBatch<>(source, 4, TimeUnit.MILLISECONDS.toNanos(10), scheduler).test()
+
+        when:
+        source.onNext(1)
+        source.onNext(2)
+
+        then:
+        subscriber.assertNoValues()
+
+        when:
+        scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS)
+
+        then:
+        subscriber.assertValues([1, 2])
+    }
+
+    void "test upstream is only requested one batch ahead of the demand"() {
+        given:
+        List<Long> requests = []
+        TestSubscriber<List<Integer>> subscriber = new FlowableBatch<>(
+                Flowable.range(0, 100).doOnRequest { requests << it }, 10, 0, new TestScheduler()).test(0)
+
+        expect:
+        requests.isEmpty()
+
+        when:
+        subscriber.request(2)
+
+        then:
+        subscriber.values() == [(0..9).toList(), (10..19).toList()]
+        requests.sum() == 20
+    }
+
+    void "test requesting from onNext with a synchronous source does not grow the stack"() {
+        given:
+        int count = 100_000
+        List<Integer> depths = []
+        int received = 0
+        boolean completed = false
+        new FlowableBatch<>(Flowable.range(0, count), 1, 0, new TestScheduler()).subscribe(new FlowableSubscriber<List<Integer>>() {
+            Subscription subscription
+
+            @Override
+            void onSubscribe(Subscription s) {
+                subscription = s
+                s.request(1)
+            }
+
+            @Override
+            void onNext(List<Integer> batch) {
+                received++
+                if (received == 1 || received == count) {
+                    depths << Thread.currentThread().stackTrace.length
+                }
+                subscription.request(1)
+            }
+
+            @Override
+            void onError(Throwable t) {
+            }
+
+            @Override
+            void onComplete() {
+                completed = true
+            }
+        })
+
+        expect:
+        received == count
+        completed
+        depths[1] <= depths[0] + 10
+    }
+
+    void "test no signal is emitted after the terminal event"() {
+        given:
+        PublishProcessor<Integer> source = PublishProcessor.create()
+        List<Object> signals = []
+        Subscription subscription = null
+        new FlowableBatch<>(source, 4, 0, new TestScheduler()).subscribe(new FlowableSubscriber<List<Integer>>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                subscription = s
+            }
+
+            @Override
+            void onNext(List<Integer> batch) {
+                signals << batch
+            }
+
+            @Override
+            void onError(Throwable t) {
+                signals << t
+            }
+
+            @Override
+            void onComplete() {
+                signals << 'complete'
+            }
+        })
+
+        when:
+        source.onError(new IllegalStateException("boom"))
+        subscription.request(1)
+        subscription.request(-1)
+
+        then:
+        signals.size() == 1
+        signals[0] instanceof IllegalStateException
+    }
+
+    void "test the last partial batch waits for demand before completing"() {
+        given:
+        TestSubscriber<List<Integer>> subscriber = new FlowableBatch<>(Flowable.range(1, 3), 2, 0, new TestScheduler()).test(1)
+
+        expect:
+        subscriber.assertValues([1, 2])
+        subscriber.assertNotComplete()
+
+        when:
+        subscriber.request(1)
+
+        then:
+        subscriber.assertValues([1, 2], [3])
+        subscriber.assertComplete()
+    }
+}
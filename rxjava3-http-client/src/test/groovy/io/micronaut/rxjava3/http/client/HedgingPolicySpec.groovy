@@ -0,0 +1,114 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.buffer.netty.NettyByteBufferFactory
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.http.HttpRequest
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.Unpooled
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.schedulers.TestScheduler
+import io.reactivex.rxjava3.subscribers.TestSubscriber
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class HedgingPolicySpec extends Specification {
+
+    TestScheduler scheduler = new TestScheduler()
+
+    HedgingPolicy policy(double budget) {
+        Rx3HttpClientConfiguration.HedgingConfiguration configuration = new Rx3HttpClientConfiguration.HedgingConfiguration()
+        configuration.enabled = true
+        configuration.budget = budget
+        configuration.initialDelay = Duration.ofMillis(100)
+        new HedgingPolicy(configuration, scheduler)
+    }
+
+    void "test a slow request is hedged and the fastest response wins"() {
+        given:
+        HedgingPolicy policy = policy(1)
+        int calls = 0
+        Flowable<String> call = Flowable.defer {
+            calls++
+            calls == 1 ? Flowable.just("slow").delay(1, TimeUnit.SECONDS, scheduler) : Flowable.just("fast").delay(10, TimeUnit.MILLISECONDS, scheduler)
+        }
+
+        when:
+        TestSubscriber<String> subscriber = Flowable.fromPublisher(policy.apply(HttpRequest.GET("/"), call)).test()
+        scheduler.advanceTimeBy(200, TimeUnit.MILLISECONDS)
+
+        then: 'the latency of the hedge and the elapsed time of the cancelled primary are recorded'
+        calls == 2
+        subscriber.assertResult("fast")
+        policy.latencies.count.get() == 2
+    }
+
+    void "test only the latency of the winning attempt is recorded when not hedged"() {
+        given:
+        HedgingPolicy policy = policy(1)
+
+        when:
+        Flowable.fromPublisher(policy.apply(HttpRequest.GET("/"), Flowable.just("fast").delay(10, TimeUnit.MILLISECONDS, scheduler))).test()
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS)
+
+        then:
+        policy.latencies.count.get() == 1
+    }
+
+    void "test a response of the losing attempt is released"() {
+        given:
+        int calls = 0
+        ByteBuffer<ByteBuf> late = NettyByteBufferFactory.DEFAULT.wrap(Unpooled.buffer(1))
+        // ignores cancellation, like a response already on its way when the other attempt wins
+        Publisher<ByteBuffer<?>> stubborn = { Subscriber<ByteBuffer<?>> subscriber ->
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                void request(long n) {
+                }
+
+                @Override
+                void cancel() {
+                }
+            })
+            scheduler.scheduleDirect({
+                subscriber.onNext(late)
+                subscriber.onComplete()
+            }, 1, TimeUnit.SECONDS)
+        } as Publisher<ByteBuffer<?>>
+        Flowable<ByteBuffer<?>> call = Flowable.defer {
+            calls++
+            calls == 1 ? stubborn : Flowable.<ByteBuffer<?>>just(NettyByteBufferFactory.DEFAULT.wrap(Unpooled.buffer(1))).delay(10, TimeUnit.MILLISECONDS, scheduler)
+        }
+
+        when:
+        TestSubscriber<ByteBuffer<?>> subscriber = Flowable.fromPublisher(policy(1).apply(HttpRequest.GET("/"), call)).test()
+        scheduler.advanceTimeBy(2, TimeUnit.SECONDS)
+
+        then:
+        calls == 2
+        subscriber.assertValueCount(1)
+        subscriber.values()[0] != late
+        late.asNativeBuffer().refCnt() == 0
+    }
+
+    void "test requests are not hedged without budget or when not idempotent"() {
+        given:
+        int calls = 0
+        Flowable<String> call = Flowable.defer {
+            calls++
+            Flowable.just("slow").delay(1, TimeUnit.SECONDS, scheduler)
+        }
+
+        when:
+        Flowable.fromPublisher(policy(0).apply(HttpRequest.GET("/"), call)).test()
+        Flowable.fromPublisher(policy(1).apply(HttpRequest.POST("/", "body"), call)).test()
+        scheduler.advanceTimeBy(2, TimeUnit.SECONDS)
+
+        then:
+        calls == 2
+    }
+}
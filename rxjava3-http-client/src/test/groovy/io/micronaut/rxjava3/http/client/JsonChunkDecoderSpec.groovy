@@ -0,0 +1,66 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.buffer.netty.NettyByteBufferFactory
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.core.type.Argument
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.Unpooled
+import io.reactivex.rxjava3.core.Flowable
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class JsonChunkDecoderSpec extends Specification {
+
+    static ByteBuffer<ByteBuf> chunk(String text) {
+        NettyByteBufferFactory.DEFAULT.wrap(Unpooled.copiedBuffer(text, StandardCharsets.UTF_8))
+    }
+
+    static <T> List<List<T>> decode(Class<T> type, String... chunks) {
+        JsonChunkDecoder.decode(Flowable.fromIterable(chunks.collect { chunk(it) }), Argument.of(type), null).toList().blockingGet()
+    }
+
+    void "test the elements completed by a chunk are decoded into one list"() {
+        expect:
+        decode(Map, '{"a":1}\n{"a"', ':2}\n{"a":3}\n', '\n') == [[[a: 1]], [[a: 2], [a: 3]]]
+    }
+
+    void "test the elements of a JSON array are decoded"() {
+        expect:
+        decode(Map, '[{"a":"]}"},', '{"a":"\\"{"}', ' ]') == [[[a: ']}']], [[a: '"{']]]
+    }
+
+    void "test scalar elements are decoded, the last one on completion"() {
+        expect:
+        decode(Integer, '1\n2\n3') == [[1, 2], [3]]
+        decode(Integer, '[1,2', ',3]') == [[1], [2, 3]]
+        decode(String, '"a b"\n"c', '"\n') == [['a b'], ['c']]
+    }
+
+    void "test a stream ending within an element fails"() {
+        expect:
+        JsonChunkDecoder.decode(Flowable.just(chunk('{"a":1}\n{"a"')), Argument.of(Map), null).test()
+                .assertValues([[a: 1]])
+                .assertError(EOFException)
+    }
+
+    void "test the chunks are released once decoded"() {
+        given:
+        List<ByteBuffer<ByteBuf>> chunks = [chunk('{"a":1}\n'), chunk('{"a":2}\n')]
+
+        when:
+        JsonChunkDecoder.decode(Flowable.fromIterable(chunks), Argument.of(Map), null).blockingSubscribe()
+
+        then:
+        chunks.every { it.asNativeBuffer().refCnt() == 0 }
+    }
+
+    void "test the lists of consecutive chunks are merged up to the batch size"() {
+        given:
+        Flowable<ByteBuffer<?>> chunks = Flowable.fromIterable(['1\n2\n', '3\n', '4\n5\n6\n7\n', '8\n'].collect { chunk(it) })
+
+        expect:
+        JsonChunkDecoder.decodeBatched(chunks, Argument.of(Integer), null, 3, null).toList().blockingGet() ==
+                [[1, 2, 3], [4, 5, 6, 7], [8]]
+    }
+}
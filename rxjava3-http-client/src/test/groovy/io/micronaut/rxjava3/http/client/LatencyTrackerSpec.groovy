@@ -0,0 +1,85 @@
+package io.micronaut.rxjava3.http.client
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class LatencyTrackerSpec extends Specification {
+
+    void "test the percentile is unknown until the window has been filled"() {
+        given:
+        LatencyTracker tracker = new LatencyTracker(16, 50)
+
+        when:
+        15.times { tracker.record(1000) }
+
+        then:
+        tracker.percentileNanos() == -1
+
+        when:
+        tracker.record(1000)
+
+        then:
+        tracker.percentileNanos() >= 1000
+        tracker.percentileNanos() <= 1125
+    }
+
+    void "test the percentile is at most an eighth above the response time"() {
+        given:
+        LatencyTracker tracker = new LatencyTracker(100, 90)
+
+        when:
+        (1..100).each { tracker.record(it * 1_000_000L) }
+
+        then:
+        tracker.percentileNanos() >= 90_000_000L
+        tracker.percentileNanos() <= 90_000_000L * 9 / 8
+    }
+
+    void "test response times leave the percentile once they fall out of the window"() {
+        given:
+        LatencyTracker tracker = new LatencyTracker(64, 99)
+
+        when:
+        64.times { tracker.record(TimeUnit.SECONDS.toNanos(1)) }
+        64.times { tracker.record(TimeUnit.MILLISECONDS.toNanos(1)) }
+
+        then:
+        tracker.percentileNanos() <= TimeUnit.MILLISECONDS.toNanos(1) * 9 / 8
+    }
+
+    void "test response times recorded concurrently are all counted"() {
+        given:
+        LatencyTracker tracker = new LatencyTracker(1000, 50)
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+        CountDownLatch done = new CountDownLatch(4)
+
+        when:
+        4.times {
+            executor.execute {
+                10_000.times { tracker.record(5000) }
+                done.countDown()
+            }
+        }
+
+        then:
+        done.await(10, TimeUnit.SECONDS)
+        tracker.percentileNanos() >= 5000
+        tracker.percentileNanos() <= 5000 * 9 / 8
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    void "test every response time falls in a bucket whose upper bound is at most an eighth above it"() {
+        expect:
+        LatencyTracker.upperBoundOf(LatencyTracker.bucketOf(nanos)) >= nanos
+        LatencyTracker.upperBoundOf(LatencyTracker.bucketOf(nanos)) <= Math.max(nanos, nanos + nanos.intdiv(8))
+
+        where:
+        nanos << [0L, 1L, 7L, 8L, 15L, 16L, 1000L, 123_456_789L, Long.MAX_VALUE]
+    }
+}
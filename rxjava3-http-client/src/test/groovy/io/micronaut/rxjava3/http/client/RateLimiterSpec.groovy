@@ -0,0 +1,128 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.schedulers.TestScheduler
+import io.reactivex.rxjava3.subscribers.TestSubscriber
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class RateLimiterSpec extends Specification {
+
+    TestScheduler scheduler = new TestScheduler()
+
+    RateLimiter rateLimiter(int burst, Duration maxWait) {
+        Rx3HttpClientConfiguration.RateLimitConfiguration configuration = new Rx3HttpClientConfiguration.RateLimitConfiguration()
+        configuration.enabled = true
+        configuration.requestsPerSecond = 10
+        configuration.burst = burst
+        configuration.maxWait = maxWait
+        new RateLimiter(configuration, scheduler)
+    }
+
+    void "test requests over the rate are delayed on a timer"() {
+        given:
+        RateLimiter rateLimiter = rateLimiter(2, Duration.ofSeconds(5))
+
+        when:
+        List<TestSubscriber<String>> subscribers = (1..4).collect { Flowable.fromPublisher(rateLimiter.apply(Flowable.just("ok"))).test() }
+
+        then:
+        subscribers[0].assertResult("ok")
+        subscribers[1].assertResult("ok")
+        subscribers[2].assertNoValues()
+
+        when:
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS)
+
+        then:
+        subscribers[2].assertResult("ok")
+        subscribers[3].assertNoValues()
+
+        when:
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS)
+
+        then:
+        subscribers[3].assertResult("ok")
+        rateLimiter.statistics().permitted == 4
+        rateLimiter.statistics().waitTimeHistogram[0] == 2
+        rateLimiter.statistics().totalWaitTime == Duration.ofMillis(300)
+    }
+
+    void "test requests that would wait too long are rejected"() {
+        given:
+        RateLimiter rateLimiter = rateLimiter(1, Duration.ofMillis(150))
+
+        when:
+        List<TestSubscriber<String>> subscribers = (1..4).collect { Flowable.fromPublisher(rateLimiter.apply(Flowable.just("ok"))).test() }
+
+        then:
+        subscribers[0].assertResult("ok")
+        subscribers[2].assertError(RateLimitExceededException)
+        rateLimiter.statistics().rejected == 2
+    }
+
+    void "test a request cancelled while it waits gives its slot back"() {
+        given:
+        RateLimiter rateLimiter = rateLimiter(1, Duration.ofSeconds(5))
+        Flowable.fromPublisher(rateLimiter.apply(Flowable.just("ok"))).test().assertResult("ok")
+        TestSubscriber<String> cancelled = Flowable.fromPublisher(rateLimiter.apply(Flowable.just("ok"))).test()
+
+        when:
+        cancelled.cancel()
+        TestSubscriber<String> next = Flowable.fromPublisher(rateLimiter.apply(Flowable.just("ok"))).test()
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS)
+
+        then:
+        cancelled.assertNoValues()
+        next.assertResult("ok")
+    }
+
+    void "test a request cancelled once it started keeps its slot"() {
+        given:
+        RateLimiter rateLimiter = rateLimiter(1, Duration.ofSeconds(5))
+        Flowable.fromPublisher(rateLimiter.apply(Flowable.just("ok"))).test().assertResult("ok")
+        TestSubscriber<String> started = Flowable.fromPublisher(rateLimiter.apply(Flowable.never())).test()
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS)
+
+        when:
+        started.cancel()
+        TestSubscriber<String> next = Flowable.fromPublisher(rateLimiter.apply(Flowable.just("ok"))).test()
+        scheduler.advanceTimeBy(99, TimeUnit.MILLISECONDS)
+
+        then:
+        next.assertNoValues()
+
+        when:
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS)
+
+        then:
+        next.assertResult("ok")
+    }
+
+    void "test a too many requests response pauses the rate limit"() {
+        given:
+        RateLimiter rateLimiter = rateLimiter(5, Duration.ofSeconds(5))
+        HttpResponse<?> tooManyRequests = HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "2")
+
+        when:
+        Flowable.fromPublisher(rateLimiter.apply(Flowable.error(new HttpClientResponseException("Too many requests", tooManyRequests)))).test()
+        TestSubscriber<String> subscriber = Flowable.fromPublisher(rateLimiter.apply(Flowable.just("ok"))).test()
+        scheduler.advanceTimeBy(1900, TimeUnit.MILLISECONDS)
+
+        then:
+        subscriber.assertNoValues()
+        rateLimiter.statistics().pauses == 1
+
+        when:
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS)
+
+        then:
+        subscriber.assertResult("ok")
+    }
+}
@@ -0,0 +1,127 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.processors.PublishProcessor
+import io.reactivex.rxjava3.subscribers.TestSubscriber
+import spock.lang.Specification
+
+class RequestCoalescerSpec extends Specification {
+
+    RequestCoalescer coalescer = new RequestCoalescer(["Accept"], true)
+
+    void "test concurrent identical requests share a single call"() {
+        given:
+        int calls = 0
+        PublishProcessor<String> response = PublishProcessor.create()
+        Flowable<String> call = Flowable.defer {
+            calls++
+            response
+        }
+
+        when:
+        TestSubscriber<String> first = Flowable.fromPublisher(coalescer.apply(HttpRequest.GET("/books").header("X-Trace", "1"), Argument.STRING, call)).test()
+        TestSubscriber<String> second = Flowable.fromPublisher(coalescer.apply(HttpRequest.GET("/books").header("X-Trace", "2"), Argument.STRING, call)).test()
+        response.onNext("books")
+        response.onComplete()
+
+        then:
+        calls == 1
+        first.assertResult("books")
+        second.assertResult("books")
+        coalescer.inFlight() == 0
+    }
+
+    void "test a finished call is no longer in flight when its subscribers receive the response"() {
+        given:
+        int calls = 0
+        Flowable<String> call = Flowable.defer {
+            calls++
+            Flowable.just("books" + calls)
+        }
+        List<Integer> inFlightOnResponse = []
+        List<String> late = []
+
+        when:
+        Flowable.fromPublisher(coalescer.apply(HttpRequest.GET("/books"), Argument.STRING, call))
+                .doOnComplete {
+                    inFlightOnResponse << coalescer.inFlight()
+                    Flowable.fromPublisher(coalescer.apply(HttpRequest.GET("/books"), Argument.STRING, call)).doOnNext { late << it }.subscribe()
+                }
+                .test()
+                .assertResult("books1")
+
+        then:
+        inFlightOnResponse == [0]
+        calls == 2
+        late == ["books2"]
+        coalescer.inFlight() == 0
+    }
+
+    void "test requests are not shared when they differ"() {
+        given:
+        int calls = 0
+        Flowable<Object> call = Flowable.defer {
+            calls++
+            Flowable.never()
+        }
+
+        when:
+        [
+                coalescer.apply(HttpRequest.GET("/books"), Argument.STRING, call),
+                coalescer.apply(HttpRequest.GET("/books").header("Authorization", "Bearer x"), Argument.STRING, call),
+                coalescer.apply(HttpRequest.GET("/authors"), Argument.STRING, call),
+                coalescer.apply(HttpRequest.GET("/books"), Argument.of(Map), call),
+                coalescer.apply(HttpRequest.POST("/books", "body"), Argument.STRING, call),
+                coalescer.apply(HttpRequest.GET("/books"), Argument.of(ByteBuffer), call),
+        ].each { Flowable.fromPublisher(it).test() }
+
+        then:
+        calls == 6
+    }
+
+    void "test the call is cancelled once every subscriber cancelled"() {
+        given:
+        PublishProcessor<String> response = PublishProcessor.create()
+
+        when:
+        TestSubscriber<String> first = Flowable.fromPublisher(coalescer.apply(HttpRequest.GET("/books"), Argument.STRING, response)).test()
+        TestSubscriber<String> second = Flowable.fromPublisher(coalescer.apply(HttpRequest.GET("/books"), Argument.STRING, response)).test()
+        first.cancel()
+
+        then:
+        response.hasSubscribers()
+
+        when:
+        second.cancel()
+
+        then:
+        !response.hasSubscribers()
+        coalescer.inFlight() == 0
+    }
+
+    void "test requests without credentials are only coalesced when anonymous requests are"() {
+        given:
+        RequestCoalescer authenticated = new RequestCoalescer(["Accept"], false)
+        int calls = 0
+        Flowable<Object> call = Flowable.defer {
+            calls++
+            Flowable.never()
+        }
+
+        when:
+        [
+                authenticated.apply(HttpRequest.GET("/books"), Argument.STRING, call),
+                authenticated.apply(HttpRequest.GET("/books"), Argument.STRING, call),
+                authenticated.apply(HttpRequest.GET("/books").header("Authorization", "Bearer x"), Argument.STRING, call),
+                authenticated.apply(HttpRequest.GET("/books").header("Authorization", "Bearer x"), Argument.STRING, call),
+                authenticated.apply(HttpRequest.GET("/books").header("Authorization", "Bearer y"), Argument.STRING, call),
+        ].each { Flowable.fromPublisher(it).test() }
+
+        then:
+        calls == 4
+        authenticated.inFlight() == 2
+    }
+}
@@ -0,0 +1,128 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Header
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+@MicronautTest
+@Property(name = "spec.name", value = "ResponseCacheSpec")
+@Property(name = "rxjava3.http.clients.default.cache.enabled", value = "true")
+@Property(name = "rxjava3.http.clients.default.cache.anonymous", value = "true")
+class ResponseCacheSpec extends Specification {
+
+    @Inject
+    @Client("/")
+    Rx3HttpClient client
+
+    @Inject
+    CacheController controller
+
+    void "test fresh responses are served from the cache"() {
+        when:
+        String first = client.retrieveSingle(HttpRequest.GET("/rxjava/cache/fresh"), String).blockingGet()
+        String second = client.retrieveSingle(HttpRequest.GET("/rxjava/cache/fresh"), String).blockingGet()
+
+        then:
+        first == "fresh 1"
+        second == "fresh 1"
+        controller.fresh.get() == 1
+        client.cacheStatistics.get().hits >= 1
+    }
+
+    void "test stale responses are revalidated with their etag"() {
+        when:
+        String first = client.retrieveSingle(HttpRequest.GET("/rxjava/cache/etag"), String).blockingGet()
+        String second = client.retrieveSingle(HttpRequest.GET("/rxjava/cache/etag"), String).blockingGet()
+
+        then:
+        first == "etag 1"
+        second == "etag 1"
+        controller.etag.get() == 2
+        controller.notModified.get() == 1
+        client.cacheStatistics.get().notModified >= 1
+    }
+
+    void "test responses without cache headers are not cached"() {
+        when:
+        client.retrieveSingle(HttpRequest.GET("/rxjava/cache/plain"), String).blockingGet()
+        client.retrieveSingle(HttpRequest.GET("/rxjava/cache/plain"), String).blockingGet()
+
+        then:
+        controller.plain.get() == 2
+    }
+
+    void "test responses are only served to requests with the same values of the headers they vary on"() {
+        when:
+        String first = client.retrieveSingle(HttpRequest.GET("/rxjava/cache/vary").header("X-Tenant", "a"), String).blockingGet()
+        String second = client.retrieveSingle(HttpRequest.GET("/rxjava/cache/vary").header("X-Tenant", "a"), String).blockingGet()
+        String third = client.retrieveSingle(HttpRequest.GET("/rxjava/cache/vary").header("X-Tenant", "b"), String).blockingGet()
+
+        then:
+        first == "vary 1"
+        second == "vary 1"
+        third == "vary 2"
+    }
+
+    void "test responses varying on everything are not cached"() {
+        when:
+        client.retrieveSingle(HttpRequest.GET("/rxjava/cache/vary-all"), String).blockingGet()
+        client.retrieveSingle(HttpRequest.GET("/rxjava/cache/vary-all"), String).blockingGet()
+
+        then:
+        controller.varyAll.get() == 2
+    }
+
+    @Requires(property = "spec.name", value = "ResponseCacheSpec")
+    @Controller("/rxjava/cache")
+    static class CacheController {
+
+        final AtomicInteger fresh = new AtomicInteger()
+        final AtomicInteger etag = new AtomicInteger()
+        final AtomicInteger notModified = new AtomicInteger()
+        final AtomicInteger plain = new AtomicInteger()
+        final AtomicInteger vary = new AtomicInteger()
+        final AtomicInteger varyAll = new AtomicInteger()
+
+        @Get("/fresh")
+        HttpResponse<String> fresh() {
+            HttpResponse.ok("fresh " + fresh.incrementAndGet()).header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+        }
+
+        @Get("/etag")
+        HttpResponse<String> etag(@Nullable @Header(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+            int count = etag.incrementAndGet()
+            if (ifNoneMatch == '"v1"') {
+                notModified.incrementAndGet()
+                return HttpResponse.notModified()
+            }
+            HttpResponse.ok("etag " + count).header(HttpHeaders.ETAG, '"v1"').header(HttpHeaders.CACHE_CONTROL, "no-cache")
+        }
+
+        @Get("/plain")
+        String plain() {
+            "plain " + plain.incrementAndGet()
+        }
+
+        @Get("/vary")
+        HttpResponse<String> vary() {
+            HttpResponse.ok("vary " + vary.incrementAndGet()).header(HttpHeaders.CACHE_CONTROL, "max-age=60").header(HttpHeaders.VARY, "X-Tenant")
+        }
+
+        @Get("/vary-all")
+        HttpResponse<String> varyAll() {
+            HttpResponse.ok("vary-all " + varyAll.incrementAndGet()).header(HttpHeaders.CACHE_CONTROL, "max-age=60").header(HttpHeaders.VARY, "*")
+        }
+    }
+}
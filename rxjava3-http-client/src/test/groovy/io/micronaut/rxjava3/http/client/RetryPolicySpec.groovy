@@ -0,0 +1,79 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.schedulers.TestScheduler
+import io.reactivex.rxjava3.subscribers.TestSubscriber
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class RetryPolicySpec extends Specification {
+
+    TestScheduler scheduler = new TestScheduler()
+
+    RetryPolicy retryPolicy(double budget) {
+        Rx3HttpClientConfiguration.RetryConfiguration configuration = new Rx3HttpClientConfiguration.RetryConfiguration()
+        configuration.enabled = true
+        configuration.budget = budget
+        new RetryPolicy(configuration, scheduler)
+    }
+
+    Flowable<String> failing(int failures, HttpStatus status, int[] calls) {
+        Flowable.defer {
+            calls[0]++
+            calls[0] <= failures ? Flowable.<String>error(new HttpClientResponseException("Failed", HttpResponse.status(status))) : Flowable.just("ok")
+        }
+    }
+
+    void "test transient failures of idempotent requests are retried"() {
+        given:
+        RetryPolicy retryPolicy = retryPolicy(1)
+        int[] calls = [0]
+
+        when:
+        TestSubscriber<String> subscriber = Flowable.fromPublisher(retryPolicy.apply(HttpRequest.GET("/"), failing(2, HttpStatus.SERVICE_UNAVAILABLE, calls))).test()
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS)
+
+        then:
+        subscriber.assertResult("ok")
+        calls[0] == 3
+        retryPolicy.statistics().retries == 2
+    }
+
+    void "test failures are not retried when not transient, not idempotent, or over budget"() {
+        given:
+        int[] calls = [0]
+
+        when:
+        Flowable.fromPublisher(retryPolicy(1).apply(HttpRequest.GET("/"), failing(1, HttpStatus.BAD_REQUEST, calls))).test()
+        calls[0] = 0
+        Flowable.fromPublisher(retryPolicy(1).apply(HttpRequest.POST("/", "body"), failing(1, HttpStatus.SERVICE_UNAVAILABLE, calls))).test()
+        calls[0] = 0
+        RetryPolicy noBudget = retryPolicy(0)
+        Flowable.fromPublisher(noBudget.apply(HttpRequest.GET("/"), failing(1, HttpStatus.SERVICE_UNAVAILABLE, calls))).test()
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS)
+
+        then:
+        calls[0] == 1
+        noBudget.statistics().budgetExceeded == 1
+    }
+
+    void "test requests fail after the maximum number of attempts"() {
+        given:
+        RetryPolicy retryPolicy = retryPolicy(1)
+        int[] calls = [0]
+
+        when:
+        TestSubscriber<String> subscriber = Flowable.fromPublisher(retryPolicy.apply(HttpRequest.GET("/"), failing(5, HttpStatus.BAD_GATEWAY, calls))).test()
+        scheduler.advanceTimeBy(10, TimeUnit.SECONDS)
+
+        then:
+        subscriber.assertError(HttpClientResponseException)
+        calls[0] == 3
+        retryPolicy.statistics().exhausted == 1
+    }
+}
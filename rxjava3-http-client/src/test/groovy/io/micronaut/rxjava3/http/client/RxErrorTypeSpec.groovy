@@ -0,0 +1,106 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.io.buffer.ReferenceCounted
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.runtime.server.EmbeddedServer
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class RxErrorTypeSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'RxErrorTypeSpec',
+            'rxjava3.http.clients.lazy.lazy-error-decoding': true,
+            'micronaut.http.services.lazy.url': 'http://localhost:${micronaut.server.port}'
+    ])
+
+    void "test retrieve honours the error type"() {
+        given:
+        Rx3HttpClient client = Rx3HttpClient.create(server.URL)
+
+        when:
+        client.retrieve(HttpRequest.GET("/rxjava/errors/conflict"), Argument.STRING, Argument.of(Conflict)).blockingFirst()
+
+        then: 'the body was decoded into the error type before any typed call'
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.CONFLICT
+        e.response.body() instanceof Conflict
+        ((Conflict) e.response.body()).code == "duplicate"
+
+        cleanup:
+        client.close()
+    }
+
+    void "test error bodies are decoded on demand"() {
+        given:
+        Rx3StreamingHttpClient client = server.applicationContext.getBean(ClientHolder).client
+
+        when:
+        client.retrieve(HttpRequest.GET("/rxjava/errors/conflict"), Argument.STRING, Argument.of(Conflict)).blockingFirst()
+
+        then: 'the exception holds the raw body, not a network buffer'
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.CONFLICT
+        e.response.body() instanceof byte[]
+        !(e.response.body() instanceof ReferenceCounted)
+        e.response.getBody(Conflict).get().code == "duplicate"
+    }
+
+    void "test a body that cannot be decoded does not fail the call when decoding lazily"() {
+        given:
+        Rx3StreamingHttpClient client = server.applicationContext.getBean(ClientHolder).client
+
+        when:
+        client.retrieve(HttpRequest.GET("/rxjava/errors/garbled"), Argument.STRING, Argument.of(Conflict)).blockingFirst()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.CONFLICT
+        new String((byte[]) e.response.body(), StandardCharsets.UTF_8) == "{not json"
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'RxErrorTypeSpec')
+    static class ClientHolder {
+        final Rx3StreamingHttpClient client
+
+        ClientHolder(@Client("lazy") Rx3StreamingHttpClient client) {
+            this.client = client
+        }
+    }
+
+    @Controller("/rxjava/errors")
+    @Requires(property = 'spec.name', value = 'RxErrorTypeSpec')
+    static class ErrorController {
+
+        @Get("/conflict")
+        HttpResponse<Conflict> conflict() {
+            HttpResponse.status(HttpStatus.CONFLICT).body(new Conflict(code: "duplicate"))
+        }
+
+        @Get("/garbled")
+        HttpResponse<String> garbled() {
+            HttpResponse.status(HttpStatus.CONFLICT).contentType(MediaType.APPLICATION_JSON_TYPE).body("{not json")
+        }
+    }
+
+    static class Conflict {
+        String code
+    }
+}
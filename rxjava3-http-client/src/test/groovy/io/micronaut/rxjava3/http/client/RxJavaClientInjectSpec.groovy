@@ -1,5 +1,6 @@
 package io.micronaut.rxjava3.http.client
 
+import io.micronaut.context.BeanContext
 import io.micronaut.rxjava3.http.client.proxy.Rx3ProxyHttpClient
 import io.micronaut.rxjava3.http.client.websockets.Rx3WebSocketClient
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
@@ -14,6 +15,7 @@ class RxJavaClientInjectSpec extends Specification {
     @Inject Rx3HttpClient httpClient
     @Inject Rx3WebSocketClient webSocketClient
     @Inject Rx3ProxyHttpClient proxyHttpClient
+    @Inject BeanContext beanContext
 
     void "test clients are injected"() {
         expect:
@@ -23,4 +25,10 @@ class RxJavaClientInjectSpec extends Specification {
         webSocketClient != null
         proxyHttpClient != null
     }
+
+    void "test resolving the same client again reuses its wrapper"() {
+        expect:
+        beanContext.getBean(Rx3StreamingHttpClient).is(beanContext.getBean(Rx3StreamingHttpClient))
+        beanContext.getBean(Rx3SseClient).is(beanContext.getBean(Rx3SseClient))
+    }
 }
@@ -0,0 +1,64 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+class RxSingleClientSpec extends Specification {
+
+    @Inject
+    @Client("/")
+    Rx3HttpClient client
+
+    void "test exchangeSingle and retrieveSingle"() {
+        when:
+        HttpResponse<String> response = client.exchangeSingle(HttpRequest.GET("/rxjava/single/hello"), String).blockingGet()
+
+        then:
+        response.status() == HttpStatus.OK
+        response.body() == "Hello"
+        client.retrieveSingle(HttpRequest.GET("/rxjava/single/hello"), String).blockingGet() == "Hello"
+    }
+
+    void "test retrieveMaybe completes empty on not found"() {
+        expect:
+        client.retrieveMaybe(HttpRequest.GET("/rxjava/single/hello"), String).blockingGet() == "Hello"
+        client.retrieveMaybe(HttpRequest.GET("/rxjava/single/missing"), String).blockingGet() == null
+    }
+
+    void "test retrieveMaybe propagates other errors"() {
+        when:
+        client.retrieveMaybe(HttpRequest.GET("/rxjava/single/conflict"), String).blockingGet()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.CONFLICT
+    }
+
+    @Controller("/rxjava/single")
+    static class SingleController {
+
+        @Get("/hello")
+        String hello() {
+            "Hello"
+        }
+
+        @Get("/missing")
+        HttpResponse<String> missing() {
+            HttpResponse.notFound()
+        }
+
+        @Get("/conflict")
+        HttpResponse<String> conflict() {
+            HttpResponse.status(HttpStatus.CONFLICT).body("Conflict")
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.micronaut.rxjava3.http.client
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.core.io.buffer.ByteBufferFactory
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.Single
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+@Property(name = 'spec.name', value = 'StreamingBodySpec')
+class StreamingBodySpec extends Specification {
+
+    @Inject
+    @Client("/")
+    Rx3StreamingHttpClient client
+
+    @Inject
+    ByteBufferFactory<?, ?> byteBufferFactory
+
+    void "test streaming raw bytes"() {
+        given:
+        Flowable<ByteBuffer<?>> chunks = Flowable.range(0, 100).map { byteBufferFactory.copiedBuffer(new byte[1024]) as ByteBuffer<?> }
+
+        expect:
+        client.exchangeBytes(HttpRequest.POST("/rxjava/upload/bytes", null), chunks, Argument.LONG)
+                .blockingFirst().body() == 100 * 1024
+    }
+
+    void "test streaming a JSON array"() {
+        expect:
+        client.exchangeJsonArray(HttpRequest.POST("/rxjava/upload/json", null), Flowable.range(0, 100).map { new Item(id: it) }, Argument.INT)
+                .blockingFirst().body() == 100
+    }
+
+    void "test streaming newline delimited JSON"() {
+        expect:
+        client.exchangeNdjson(HttpRequest.POST("/rxjava/upload/ndjson", null), Flowable.range(0, 100).map { new Item(id: it) }, Argument.INT)
+                .blockingFirst().body() == 100
+    }
+
+    void "test the request of the caller is left unchanged"() {
+        given:
+        def request = HttpRequest.POST("/rxjava/upload/bytes", null)
+        Flowable<ByteBuffer<?>> chunks = Flowable.range(0, 2).map { byteBufferFactory.copiedBuffer(new byte[1024]) as ByteBuffer<?> }
+
+        when:
+        client.exchangeBytes(request, chunks, Argument.LONG).blockingFirst()
+
+        then:
+        !request.contentType.isPresent()
+        !request.body.isPresent()
+    }
+
+    void "test requests with a streamed body are never idempotent"() {
+        expect:
+        Rx3ClientPipeline.isIdempotent(HttpRequest.PUT("/", "body"))
+        !Rx3ClientPipeline.isIdempotent(HttpRequest.PUT("/", Flowable.just("body")))
+    }
+
+    @Requires(property = 'spec.name', value = 'StreamingBodySpec')
+    @Controller("/rxjava/upload")
+    static class UploadController {
+
+        @Post(uri = "/bytes", consumes = MediaType.APPLICATION_OCTET_STREAM)
+        Single<Long> bytes(@Body Flowable<byte[]> body) {
+            body.reduce(0L) { long total, byte[] chunk -> total + chunk.length }
+        }
+
+        @Post(uri = "/json", consumes = MediaType.APPLICATION_JSON)
+        Single<Integer> json(@Body Flowable<Item> items) {
+            items.count().map { it.intValue() }
+        }
+
+        @Post(uri = "/ndjson", consumes = "application/x-ndjson")
+        Integer ndjson(@Body String body) {
+            body.readLines().findAll { it.startsWith('{"id":') }.size()
+        }
+    }
+
+    static class Item {
+        int id
+    }
+}
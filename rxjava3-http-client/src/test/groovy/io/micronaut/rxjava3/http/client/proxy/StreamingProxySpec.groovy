@@ -0,0 +1,182 @@
+package io.micronaut.rxjava3.http.client.proxy
+
+import io.micronaut.buffer.netty.NettyByteBufferFactory
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.core.io.buffer.ReferenceCounted
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.http.client.ProxyHttpClient
+import io.micronaut.http.client.StreamingHttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.Unpooled
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.FlowableTransformer
+import io.reactivex.rxjava3.schedulers.TestScheduler
+import io.reactivex.rxjava3.subscribers.TestSubscriber
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class StreamingProxySpec extends Specification {
+
+    TestScheduler scheduler = new TestScheduler()
+
+    FlowableTransformer<ByteBuffer<?>, ByteBuffer<?>> identity = { Flowable<ByteBuffer<?>> chunks -> chunks } as FlowableTransformer
+
+    FlowableTransformer<ByteBuffer<?>, ByteBuffer<?>> upperCase = { Flowable<ByteBuffer<?>> chunks ->
+        chunks.map { ByteBuffer<?> buffer ->
+            String text = buffer.toString(StandardCharsets.UTF_8)
+            ((ReferenceCounted) buffer).release()
+            chunk(text.toUpperCase())
+        }
+    } as FlowableTransformer
+
+    ByteBuffer<ByteBuf> chunk(String text) {
+        NettyByteBufferFactory.DEFAULT.wrap(Unpooled.copiedBuffer(text, StandardCharsets.UTF_8))
+    }
+
+    MutableHttpResponse<?> proxy(Flowable<HttpResponse<ByteBuffer<?>>> upstream, FlowableTransformer<ByteBuffer<?>, ByteBuffer<?>> transformer) {
+        StreamingHttpClient client = Stub(StreamingHttpClient) {
+            exchangeStream(_) >> upstream
+        }
+        StreamingProxy.proxy(client, HttpRequest.GET("/"), transformer, Duration.ofSeconds(30), scheduler).blockingGet()
+    }
+
+    static Flowable<ByteBuffer<?>> body(MutableHttpResponse<?> response) {
+        (Flowable<ByteBuffer<?>>) response.body()
+    }
+
+    static List<String> text(Flowable<ByteBuffer<?>> body) {
+        body.map { it.toString(StandardCharsets.UTF_8) }.toList().blockingGet()
+    }
+
+    void "test chunks pass through the transformation"() {
+        when:
+        MutableHttpResponse<?> response = proxy(Flowable.just(
+                HttpResponse.ok(chunk("a")).header("X-Test", "1").header(HttpHeaders.CONTENT_LENGTH, "2"),
+                HttpResponse.ok(chunk("b"))), upperCase)
+
+        then:
+        response.status() == HttpStatus.OK
+        response.header("X-Test") == "1"
+        !response.headers.contains(HttpHeaders.CONTENT_LENGTH)
+        text(body(response)) == ["A", "B"]
+    }
+
+    void "test at most one chunk is held before the body is requested"() {
+        given:
+        int produced = 0
+        List<Long> requests = []
+        Flowable<HttpResponse<ByteBuffer<?>>> upstream = Flowable.range(0, 10)
+                .map { HttpResponse.ok(chunk(it.toString())) as HttpResponse<ByteBuffer<?>> }
+                .doOnNext { produced++ }
+                .doOnRequest { requests << it }
+
+        when:
+        MutableHttpResponse<?> response = proxy(upstream, identity)
+
+        then:
+        requests == [1L]
+        produced == 1
+
+        when:
+        TestSubscriber<ByteBuffer<?>> subscriber = body(response).test(0)
+
+        then:
+        produced == 1
+        subscriber.values().isEmpty()
+
+        when:
+        subscriber.request(3)
+
+        then:
+        produced == 3
+        subscriber.values()*.toString(StandardCharsets.UTF_8) == ["0", "1", "2"]
+    }
+
+    void "test a second body subscriber is rejected"() {
+        given:
+        Flowable<ByteBuffer<?>> body = body(proxy(Flowable.just(HttpResponse.ok(chunk("a"))), identity))
+
+        when:
+        TestSubscriber<ByteBuffer<?>> first = body.test()
+        TestSubscriber<ByteBuffer<?>> second = body.test()
+
+        then:
+        first.assertValueCount(1)
+        first.assertComplete()
+        second.assertError(IllegalStateException)
+    }
+
+    void "test error responses pass through the transformation"() {
+        when:
+        MutableHttpResponse<?> response = proxy(
+                Flowable.error(new HttpClientResponseException("Not Found", HttpResponse.notFound(chunk("missing")))), upperCase)
+
+        then:
+        response.status() == HttpStatus.NOT_FOUND
+        text(body(response)) == ["MISSING"]
+    }
+
+    void "test cancelling the body releases the held chunk and cancels upstream"() {
+        given:
+        boolean cancelled = false
+        ByteBuffer<ByteBuf> first = chunk("a")
+        MutableHttpResponse<?> response = proxy(Flowable.just(HttpResponse.ok(first), HttpResponse.ok(chunk("b")))
+                .doOnCancel { cancelled = true } as Flowable<HttpResponse<ByteBuffer<?>>>, identity)
+
+        when:
+        body(response).test(0).cancel()
+
+        then:
+        cancelled
+        first.asNativeBuffer().refCnt() == 0
+    }
+
+    void "test an unsubscribed body is released after the subscribe timeout"() {
+        given:
+        boolean cancelled = false
+        ByteBuffer<ByteBuf> first = chunk("a")
+        MutableHttpResponse<?> response = proxy(Flowable.just(HttpResponse.ok(first), HttpResponse.ok(chunk("b")))
+                .doOnCancel { cancelled = true } as Flowable<HttpResponse<ByteBuffer<?>>>, identity)
+
+        when:
+        scheduler.advanceTimeBy(29, TimeUnit.SECONDS)
+
+        then:
+        !cancelled
+        first.asNativeBuffer().refCnt() == 1
+
+        when:
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS)
+
+        then:
+        cancelled
+        first.asNativeBuffer().refCnt() == 0
+        body(response).test().assertError(IllegalStateException)
+    }
+
+    void "test a proxy client that cannot stream still proxies and only fails to transform"() {
+        given:
+        MutableHttpResponse<?> proxied = HttpResponse.ok("a")
+        ProxyHttpClient client = Stub(ProxyHttpClient) {
+            proxy(_) >> Flowable.just(proxied)
+        }
+        Rx3ProxyHttpClient bridged = new BridgedProxyRx3HttpClient(client)
+
+        expect:
+        bridged.proxy(HttpRequest.GET("/")).blockingFirst().is(proxied)
+
+        when:
+        bridged.proxy(HttpRequest.GET("/"), identity).blockingGet()
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+}
@@ -0,0 +1,107 @@
+package io.micronaut.rxjava3.http.client.sse
+
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MutableHttpRequest
+import io.micronaut.http.sse.Event
+import io.micronaut.rxjava3.http.client.Rx3SseClient
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.schedulers.TestScheduler
+import io.reactivex.rxjava3.subscribers.TestSubscriber
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class ReconnectingEventStreamSpec extends Specification {
+
+    void "test the stream reconnects, resumes from the last event id and drops replayed events"() {
+        given:
+        List<String> lastEventIds = []
+        List<Flowable<Event<String>>> connections = [
+                Flowable.just(Event.of("a").id("1"), Event.of("b").id("2")).concatWith(Flowable.error(new IOException("dropped"))),
+                Flowable.just(Event.of("b").id("2"), Event.of("c").id("3")).concatWith(Flowable.never())
+        ]
+        Rx3SseClient client = Mock(Rx3SseClient) {
+            eventStream(_ as HttpRequest, _ as Argument) >> { HttpRequest request, Argument type ->
+                lastEventIds << request.headers.get(ReconnectingEventStream.LAST_EVENT_ID)
+                connections.remove(0)
+            }
+        }
+        TestScheduler scheduler = new TestScheduler()
+        SseReconnectOptions options = new SseReconnectOptions()
+        options.jitter = 0
+        options.initialDelay = Duration.ofSeconds(1)
+        MutableHttpRequest<?> request = HttpRequest.GET("/events")
+
+        when:
+        TestSubscriber<Event<String>> subscriber = ReconnectingEventStream.create(client, request, Argument.STRING, options, scheduler).test()
+
+        then:
+        subscriber.values()*.data == ["a", "b"]
+        lastEventIds == [null]
+
+        when:
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS)
+
+        then:
+        subscriber.values()*.data == ["a", "b", "c"]
+        lastEventIds == [null, "2"]
+        subscriber.assertNotComplete()
+        subscriber.assertNoErrors()
+
+        and: 'the request of the caller is left untouched'
+        !request.headers.contains(ReconnectingEventStream.LAST_EVENT_ID)
+    }
+
+    void "test every reconnection resumes from its own copy of the request"() {
+        given:
+        List<HttpRequest<?>> requests = []
+        List<Flowable<Event<String>>> connections = [
+                Flowable.just(Event.of("a").id("1")).concatWith(Flowable.error(new IOException("dropped"))),
+                Flowable.just(Event.of("b").id("2")).concatWith(Flowable.error(new IOException("dropped"))),
+                Flowable.<Event<String>>never()
+        ]
+        Rx3SseClient client = Mock(Rx3SseClient) {
+            eventStream(_ as HttpRequest, _ as Argument) >> { HttpRequest request, Argument type ->
+                requests << request
+                connections.remove(0)
+            }
+        }
+        TestScheduler scheduler = new TestScheduler()
+        SseReconnectOptions options = new SseReconnectOptions()
+        options.jitter = 0
+        options.initialDelay = Duration.ofSeconds(1)
+        MutableHttpRequest<?> request = HttpRequest.GET("/events").header("X-Trace", "abc")
+
+        when:
+        ReconnectingEventStream.create(client, request, Argument.STRING, options, scheduler).test()
+        scheduler.advanceTimeBy(1, TimeUnit.MINUTES)
+
+        then:
+        requests.size() == 3
+        requests[0].is(request)
+        requests[1].headers.get(ReconnectingEventStream.LAST_EVENT_ID) == "1"
+        requests[2].headers.get(ReconnectingEventStream.LAST_EVENT_ID) == "2"
+        requests[1].headers.get("X-Trace") == "abc"
+        requests[2].headers.getAll(ReconnectingEventStream.LAST_EVENT_ID) == ["2"]
+        !request.headers.contains(ReconnectingEventStream.LAST_EVENT_ID)
+    }
+
+    void "test the stream gives up after the maximum number of attempts"() {
+        given:
+        Rx3SseClient client = Mock(Rx3SseClient) {
+            eventStream(_ as HttpRequest, _ as Argument) >> Flowable.error(new IOException("refused"))
+        }
+        TestScheduler scheduler = new TestScheduler()
+        SseReconnectOptions options = new SseReconnectOptions()
+        options.maxAttempts = 2
+
+        when:
+        TestSubscriber<Event<String>> subscriber = ReconnectingEventStream.create(client, HttpRequest.GET("/events"), Argument.STRING, options, scheduler).test()
+        scheduler.advanceTimeBy(1, TimeUnit.MINUTES)
+
+        then:
+        subscriber.assertError(IOException)
+    }
+}
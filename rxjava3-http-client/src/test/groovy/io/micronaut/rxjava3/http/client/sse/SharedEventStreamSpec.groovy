@@ -0,0 +1,122 @@
+package io.micronaut.rxjava3.http.client.sse
+
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.client.sse.SseClient
+import io.micronaut.http.sse.Event
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.exceptions.MissingBackpressureException
+import io.reactivex.rxjava3.processors.PublishProcessor
+import io.reactivex.rxjava3.subscribers.TestSubscriber
+import spock.lang.Specification
+
+class SharedEventStreamSpec extends Specification {
+
+    void "test identical requests share one connection"() {
+        given:
+        int connections = 0
+        PublishProcessor<Event<String>> events = PublishProcessor.create()
+        SseClient sseClient = Mock(SseClient) {
+            eventStream(_ as HttpRequest, _ as Argument) >> { connections++; events }
+        }
+        BridgedRx3SseClient client = new BridgedRx3SseClient(sseClient)
+
+        when:
+        TestSubscriber<Event<String>> first = client.sharedEventStream(HttpRequest.GET("/events"), Argument.STRING, 16, SlowConsumerPolicy.DROP).test()
+        TestSubscriber<Event<String>> second = client.sharedEventStream(HttpRequest.GET("/events"), Argument.STRING, 16, SlowConsumerPolicy.DROP).test()
+        events.onNext(Event.of("a"))
+
+        then:
+        connections == 1
+        first.values()*.data == ["a"]
+        second.values()*.data == ["a"]
+
+        when:
+        first.cancel()
+        second.cancel()
+
+        then:
+        !events.hasSubscribers()
+
+        when:
+        client.sharedEventStream(HttpRequest.GET("/events"), Argument.STRING, 16, SlowConsumerPolicy.DROP).test()
+
+        then:
+        connections == 2
+    }
+
+    void "test a subscriber notified of the end of a stream opens a new connection"() {
+        given:
+        int connections = 0
+        List<PublishProcessor<Event<String>>> streams = [PublishProcessor.create(), PublishProcessor.create()]
+        SseClient sseClient = Mock(SseClient) {
+            eventStream(_ as HttpRequest, _ as Argument) >> { streams[connections++] }
+        }
+        BridgedRx3SseClient client = new BridgedRx3SseClient(sseClient)
+        TestSubscriber<Event<String>> late = null
+        client.sharedEventStream(HttpRequest.GET("/events"), Argument.STRING, 16, SlowConsumerPolicy.DROP)
+                .doOnComplete { late = client.sharedEventStream(HttpRequest.GET("/events"), Argument.STRING, 16, SlowConsumerPolicy.DROP).test() }
+                .test()
+
+        when:
+        streams[0].onComplete()
+
+        then: 'the ended stream was no longer shared when the subscriber saw it complete'
+        connections == 2
+        late.assertNotComplete()
+
+        when:
+        streams[1].onNext(Event.of("b"))
+
+        then:
+        late.values()*.data == ["b"]
+    }
+
+    void "test subscribing again to a shared stream joins the current connection"() {
+        given:
+        int connections = 0
+        List<PublishProcessor<Event<String>>> streams = [PublishProcessor.create(), PublishProcessor.create(), PublishProcessor.create()]
+        SseClient sseClient = Mock(SseClient) {
+            eventStream(_ as HttpRequest, _ as Argument) >> { streams[connections++] }
+        }
+        BridgedRx3SseClient client = new BridgedRx3SseClient(sseClient)
+        Flowable<Event<String>> stream = client.sharedEventStream(HttpRequest.GET("/events"), Argument.STRING, 16, SlowConsumerPolicy.DROP)
+
+        when:
+        TestSubscriber<Event<String>> first = stream.test()
+        streams[0].onComplete()
+
+        then:
+        first.assertComplete()
+
+        when:
+        TestSubscriber<Event<String>> again = stream.test()
+        TestSubscriber<Event<String>> other = client.sharedEventStream(HttpRequest.GET("/events"), Argument.STRING, 16, SlowConsumerPolicy.DROP).test()
+        streams[1].onNext(Event.of("b"))
+
+        then:
+        connections == 2
+        again.values()*.data == ["b"]
+        other.values()*.data == ["b"]
+    }
+
+    void "test a slow subscriber is disconnected without affecting the others"() {
+        given:
+        PublishProcessor<Event<String>> events = PublishProcessor.create()
+        SseClient sseClient = Mock(SseClient) {
+            eventStream(_ as HttpRequest, _ as Argument) >> events
+        }
+        BridgedRx3SseClient client = new BridgedRx3SseClient(sseClient)
+        TestSubscriber<Event<String>> slow = client.sharedEventStream(HttpRequest.GET("/events"), Argument.STRING, 1, SlowConsumerPolicy.DISCONNECT).test(0)
+        TestSubscriber<Event<String>> fast = client.sharedEventStream(HttpRequest.GET("/events"), Argument.STRING, 1, SlowConsumerPolicy.DISCONNECT).test()
+
+        when:
+        events.onNext(Event.of("a"))
+        events.onNext(Event.of("b"))
+
+        then:
+        slow.assertError(MissingBackpressureException)
+        fast.values()*.data == ["a", "b"]
+        events.hasSubscribers()
+    }
+}
@@ -0,0 +1,152 @@
+package io.micronaut.rxjava3.http.client.websockets
+
+import io.micronaut.websocket.WebSocketSession
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.observers.TestObserver
+import io.reactivex.rxjava3.processors.PublishProcessor
+import io.reactivex.rxjava3.schedulers.TestScheduler
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class Rx3WebSocketConnectionBatchSpec extends Specification {
+
+    TestScheduler scheduler = new TestScheduler()
+    List<Object> sent = []
+    WebSocketSession session = Stub(WebSocketSession) {
+        send(_) >> { Object message ->
+            sent << message
+            Flowable.just(message)
+        }
+    }
+    Rx3WebSocketConnection connection = new Rx3WebSocketConnection(session, 16, null)
+    PublishProcessor<String> messages = PublishProcessor.create()
+
+    void "test a frame is sent once the maximum number of messages is pending"() {
+        given:
+        TestObserver<Void> observer = connection.sendBatched(messages, 3, 1024, Duration.ofMillis(10), { it.join(',') }, scheduler).test()
+
+        when:
+        messages.onNext('a')
+        messages.onNext('b')
+
+        then:
+        sent.isEmpty()
+
+        when:
+        messages.onNext('c')
+
+        then:
+        sent == ['a,b,c']
+        observer.assertNotComplete()
+    }
+
+    void "test a frame is sent once the maximum number of bytes is pending"() {
+        given:
+        connection.sendBatched(messages, 100, 5, Duration.ofMillis(10), { it.join(',') }, scheduler).test()
+
+        when:
+        messages.onNext('abc')
+
+        then:
+        sent.isEmpty()
+
+        when:
+        messages.onNext('de')
+        messages.onNext('f')
+
+        then:
+        sent == ['abc,de']
+    }
+
+    void "test a frame is sent once the window has elapsed since its first message"() {
+        given:
+        connection.sendBatched(messages, 100, 1024, Duration.ofMillis(10), { it.join(',') }, scheduler).test()
+
+        when:
+        messages.onNext('a')
+        scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS)
+        messages.onNext('b')
+        scheduler.advanceTimeBy(4, TimeUnit.MILLISECONDS)
+
+        then:
+        sent.isEmpty()
+
+        when:
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS)
+
+        then:
+        sent == ['a,b']
+
+        when:'the window of the next frame starts with its first message'
+        scheduler.advanceTimeBy(20, TimeUnit.MILLISECONDS)
+        messages.onNext('c')
+        scheduler.advanceTimeBy(9, TimeUnit.MILLISECONDS)
+
+        then:
+        sent == ['a,b']
+
+        when:
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS)
+
+        then:
+        sent == ['a,b', 'c']
+    }
+
+    void "test only full frames are sent without a window"() {
+        given:
+        TestObserver<Void> observer = connection.sendBatched(messages, 2, 1024, null, { it.join(',') }, scheduler).test()
+
+        when:
+        messages.onNext('a')
+        messages.onNext('b')
+        messages.onNext('c')
+        scheduler.advanceTimeBy(1, TimeUnit.DAYS)
+
+        then:
+        sent == ['a,b']
+
+        when:'the pending messages are sent on completion'
+        messages.onComplete()
+
+        then:
+        sent == ['a,b', 'c']
+        observer.assertComplete()
+    }
+
+    void "test the frame sent is the output of the combiner"() {
+        given:
+        byte[] frame = [1, 2, 3] as byte[]
+        List<List<String>> batches = []
+
+        when:
+        connection.sendBatched(Flowable.just('a', 'b', 'c'), 2, 1024, null, { List<String> batch ->
+            batches << batch
+            frame
+        }, scheduler).blockingAwait()
+
+        then:
+        batches == [['a', 'b'], ['c']]
+        sent.size() == 2
+        sent.every { it.is(frame) }
+    }
+
+    void "test the statistics count the messages, frames and bytes sent"() {
+        when:
+        connection.sendBatched(Flowable.just('ab', 'cd', 'ef', 'g'), 3, 1024, null, { it.join('') }, scheduler).blockingAwait()
+
+        then:
+        connection.sendStatistics.messages == 4
+        connection.sendStatistics.frames == 2
+        connection.sendStatistics.bytes == 7
+        connection.sendStatistics.messagesPerFrame == 2.0d
+    }
+
+    void "test the statistics are empty before anything is sent"() {
+        expect:
+        connection.sendStatistics.messages == 0
+        connection.sendStatistics.frames == 0
+        connection.sendStatistics.messagesPerFrame == 0.0d
+    }
+}
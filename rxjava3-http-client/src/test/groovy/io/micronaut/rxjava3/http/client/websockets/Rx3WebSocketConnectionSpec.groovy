@@ -0,0 +1,164 @@
+package io.micronaut.rxjava3.http.client.websockets
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MutableHttpRequest
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.websocket.WebSocketSession
+import io.micronaut.websocket.annotation.OnMessage
+import io.micronaut.websocket.annotation.OnOpen
+import io.micronaut.websocket.annotation.ServerWebSocket
+import io.reactivex.rxjava3.core.Completable
+import io.reactivex.rxjava3.core.Flowable
+import jakarta.inject.Inject
+import org.reactivestreams.Publisher
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.atomic.AtomicInteger
+
+@MicronautTest
+@Property(name = "spec.name", value = "Rx3WebSocketConnectionSpec")
+class Rx3WebSocketConnectionSpec extends Specification {
+
+    static final int MESSAGES = 1000
+    static final int MESSAGE_SIZE = 64 * 1024
+    static final int BUFFER_SIZE = 8
+
+    @Inject
+    @Client("/")
+    Rx3WebSocketClient client
+
+    PollingConditions conditions = new PollingConditions(timeout: 10)
+
+    void "test the server writes stall while the subscriber requests nothing"() {
+        given:
+        WebSocketServer.written.set(0)
+        Rx3WebSocketConnection connection = client.connect(HttpRequest.GET("/rxjava/ws/flood"), BUFFER_SIZE).blockingGet()
+
+        expect:
+        conditions.eventually {
+            assert connection.buffered() >= BUFFER_SIZE
+        }
+
+        when:
+        Thread.sleep(500)
+        int written = WebSocketServer.written.get()
+
+        then: 'reading stopped once the buffer was full, until the socket buffers filled'
+        connection.buffered() <= BUFFER_SIZE + 4
+        written < MESSAGES
+
+        when:
+        long received = connection.inbound().take(MESSAGES).count().blockingGet()
+
+        then:
+        received == MESSAGES
+        conditions.eventually {
+            assert WebSocketServer.written.get() == MESSAGES
+        }
+
+        cleanup:
+        connection?.close()?.blockingAwait()
+    }
+
+    void "test text messages are received"() {
+        when:
+        Rx3WebSocketConnection connection = client.connect(HttpRequest.GET("/rxjava/ws/text")).blockingGet()
+
+        then:
+        connection.inboundText().take(2).toList().blockingGet() == ["one", "two"]
+
+        cleanup:
+        connection?.close()?.blockingAwait()
+    }
+
+    void "test the buffer size is passed with a copy of the handshake request"() {
+        given:
+        MutableHttpRequest<?> request = HttpRequest.GET("/rxjava/ws/text")
+
+        when:
+        Rx3WebSocketConnection connection = client.connect(request, BUFFER_SIZE).blockingGet()
+
+        then:
+        connection.inboundText().take(2).toList().blockingGet() == ["one", "two"]
+        !request.getAttribute(Rx3WebSocketConnectionEndpoint.BUFFER_SIZE_ATTRIBUTE).isPresent()
+
+        cleanup:
+        connection?.close()?.blockingAwait()
+    }
+
+    void "test binary messages are received"() {
+        when:
+        Rx3WebSocketConnection connection = client.connect(HttpRequest.GET("/rxjava/ws/bytes")).blockingGet()
+
+        then:
+        connection.inbound().take(2).toList().blockingGet()*.toList() == [[1, 2, 3], [4, 5]]
+
+        cleanup:
+        connection?.close()?.blockingAwait()
+    }
+
+    void "test JSON messages are decoded"() {
+        when:
+        Rx3WebSocketConnection connection = client.connect(HttpRequest.GET("/rxjava/ws/json")).blockingGet()
+
+        then:
+        connection.inbound(Argument.mapOf(String, String)).firstOrError().blockingGet() == [name: "micronaut"]
+
+        cleanup:
+        connection?.close()?.blockingAwait()
+    }
+
+    void "test messages are sent"() {
+        when:
+        Rx3WebSocketConnection connection = client.connect(HttpRequest.GET("/rxjava/ws/echo")).blockingGet()
+        connection.send(Flowable.just("ping", "pong")).blockingAwait()
+
+        then:
+        connection.inboundText().take(2).toList().blockingGet() == ["echo ping", "echo pong"]
+
+        cleanup:
+        connection?.close()?.blockingAwait()
+    }
+
+    @Requires(property = "spec.name", value = "Rx3WebSocketConnectionSpec")
+    @ServerWebSocket("/rxjava/ws/{mode}")
+    static class WebSocketServer {
+
+        static final AtomicInteger written = new AtomicInteger()
+
+        @OnOpen
+        void onOpen(String mode, WebSocketSession session) {
+            Flowable<Object> messages
+            switch (mode) {
+                case "flood":
+                    messages = Flowable.range(0, MESSAGES).map { new byte[MESSAGE_SIZE] as Object }
+                    break
+                case "text":
+                    messages = Flowable.just("one", "two")
+                    break
+                case "bytes":
+                    messages = Flowable.just([1, 2, 3] as byte[], [4, 5] as byte[])
+                    break
+                case "json":
+                    messages = Flowable.just('{"name":"micronaut"}'.getBytes(StandardCharsets.UTF_8))
+                    break
+                default:
+                    messages = Flowable.empty()
+            }
+            messages.concatMapCompletable { message ->
+                Completable.fromPublisher(session.send(message)).doOnComplete { written.incrementAndGet() }
+            }.subscribe()
+        }
+
+        @OnMessage
+        Publisher<String> onMessage(String message, WebSocketSession session) {
+            session.send("echo " + message)
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.converters;
+
+import io.micronaut.aop.Around;
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Observable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides, for an individual method or all the methods of a bean, the backpressure strategy used when an
+ * {@link Observable} returned by the method is converted to a {@link org.reactivestreams.Publisher}.
+ * Without this annotation the strategy from {@link ObservableBackpressureConfiguration} is used.
+ *
+ * @since 3.6.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Around
+public @interface Backpressure {
+
+    /**
+     * @return The backpressure strategy
+     */
+    BackpressureStrategy value() default BackpressureStrategy.BUFFER;
+
+    /**
+     * @return The maximum number of buffered items when the strategy is {@link BackpressureStrategy#BUFFER}.
+     * A value less than one means the buffer is unbounded.
+     */
+    int bufferSize() default ObservableBackpressureConfiguration.DEFAULT_BUFFER_SIZE;
+}
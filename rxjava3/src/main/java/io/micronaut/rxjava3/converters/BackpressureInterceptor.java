@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.converters;
+
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Observable;
+import jakarta.inject.Singleton;
+
+/**
+ * Marks {@link Observable} results of methods annotated with {@link Backpressure} with the configured strategy.
+ *
+ * @since 3.6.0
+ */
+@Singleton
+@Internal
+@InterceptorBean(Backpressure.class)
+@Requires(classes = MethodInterceptor.class)
+final class BackpressureInterceptor implements MethodInterceptor<Object, Object> {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        Object result = context.proceed();
+        if (result instanceof Observable) {
+            BackpressureStrategy strategy = context.enumValue(Backpressure.class, BackpressureStrategy.class)
+                    .orElse(BackpressureStrategy.BUFFER);
+            int bufferSize = context.intValue(Backpressure.class, "bufferSize")
+                    .orElse(ObservableBackpressureConfiguration.DEFAULT_BUFFER_SIZE);
+            return new BackpressuredObservable<>((Observable<Object>) result, strategy, bufferSize);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.converters;
+
+import io.micronaut.core.annotation.Internal;
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Observer;
+
+/**
+ * An {@link Observable} that carries the backpressure strategy to apply when it is converted to a
+ * {@link org.reactivestreams.Publisher}.
+ *
+ * @param <T> The element type
+ * @since 3.6.0
+ */
+@Internal
+final class BackpressuredObservable<T> extends Observable<T> {
+
+    private final Observable<T> source;
+    private final BackpressureStrategy strategy;
+    private final int bufferSize;
+
+    BackpressuredObservable(Observable<T> source, BackpressureStrategy strategy, int bufferSize) {
+        this.source = source;
+        this.strategy = strategy;
+        this.bufferSize = bufferSize;
+    }
+
+    BackpressureStrategy getStrategy() {
+        return strategy;
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> observer) {
+        source.subscribe(observer);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.converters;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+
+/**
+ * Configures the backpressure strategy used when an {@link io.reactivex.rxjava3.core.Observable} is converted to a
+ * {@link org.reactivestreams.Publisher}, for example when it is returned from a controller.
+ *
+ * @since 3.6.0
+ */
+@ConfigurationProperties(ObservableBackpressureConfiguration.PREFIX)
+public class ObservableBackpressureConfiguration {
+
+    /**
+     * The prefix to use for configuration.
+     */
+    public static final String PREFIX = "rxjava3.observable.backpressure";
+
+    /**
+     * The default strategy.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final BackpressureStrategy DEFAULT_STRATEGY = BackpressureStrategy.BUFFER;
+
+    /**
+     * The default buffer size, which means the buffer is unbounded.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_BUFFER_SIZE = -1;
+
+    private BackpressureStrategy strategy = DEFAULT_STRATEGY;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * @return The backpressure strategy
+     */
+    @NonNull
+    public BackpressureStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Sets the backpressure strategy. Default value (BUFFER).
+     *
+     * @param strategy The backpressure strategy
+     */
+    public void setStrategy(@NonNull BackpressureStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * @return The maximum number of items buffered per subscription when the strategy is
+     * {@link BackpressureStrategy#BUFFER}
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the maximum number of items buffered per subscription when the strategy is
+     * {@link BackpressureStrategy#BUFFER}. Once the buffer is full the stream fails with a
+     * {@link io.reactivex.rxjava3.exceptions.MissingBackpressureException}. A value less than one means the buffer
+     * is unbounded. Default value ({@value #DEFAULT_BUFFER_SIZE}).
+     *
+     * @param bufferSize The buffer size
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.converters;
+
+import io.micronaut.core.convert.MutableConversionService;
+import io.micronaut.core.convert.TypeConverterRegistrar;
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Observable;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replaces the default {@link Observable} to {@link Publisher} converter of {@link RxJava3ConverterRegistrar} with
+ * one that applies the strategy from {@link ObservableBackpressureConfiguration}, or from {@link Backpressure}, and
+ * keeps track of the number of items held in {@link BackpressureStrategy#BUFFER} buffers.
+ *
+ * @since 3.6.0
+ */
+@Singleton
+public class ObservableBackpressureConverterRegistrar implements TypeConverterRegistrar {
+
+    private final ObservableBackpressureConfiguration configuration;
+    private final LongAdder bufferedItems = new LongAdder();
+
+    /**
+     * Default constructor.
+     *
+     * @param configuration The backpressure configuration
+     */
+    public ObservableBackpressureConverterRegistrar(ObservableBackpressureConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void register(MutableConversionService conversionService) {
+        conversionService.addConverter(Observable.class, Publisher.class, this::toFlowable);
+    }
+
+    /**
+     * @return The number of items currently held in the buffers of converted observables, across all subscriptions
+     */
+    public long getBufferedItems() {
+        return bufferedItems.sum();
+    }
+
+    private <T> Flowable<T> toFlowable(Observable<T> observable) {
+        BackpressureStrategy strategy = configuration.getStrategy();
+        int bufferSize = configuration.getBufferSize();
+        if (observable instanceof BackpressuredObservable) {
+            BackpressuredObservable<T> backpressured = (BackpressuredObservable<T>) observable;
+            strategy = backpressured.getStrategy();
+            bufferSize = backpressured.getBufferSize();
+        }
+        if (strategy == BackpressureStrategy.BUFFER) {
+            return buffer(observable, bufferSize);
+        }
+        return observable.toFlowable(strategy);
+    }
+
+    private <T> Flowable<T> buffer(Observable<T> observable, int bufferSize) {
+        return Flowable.defer(() -> {
+            AtomicLong pending = new AtomicLong();
+            Flowable<T> upstream = observable.toFlowable(BackpressureStrategy.MISSING)
+                    .doOnNext(item -> {
+                        pending.incrementAndGet();
+                        bufferedItems.increment();
+                    });
+            Flowable<T> buffered = bufferSize > 0 ? upstream.onBackpressureBuffer(bufferSize) : upstream.onBackpressureBuffer();
+            return buffered
+                    .doOnNext(item -> {
+                        pending.decrementAndGet();
+                        bufferedItems.decrement();
+                    })
+                    .doFinally(() -> bufferedItems.add(-pending.getAndSet(0)));
+        });
+    }
+}
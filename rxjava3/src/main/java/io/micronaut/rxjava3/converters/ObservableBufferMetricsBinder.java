@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.converters;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Singleton;
+
+/**
+ * Exposes the number of items buffered by {@link io.reactivex.rxjava3.core.Observable} conversions as the
+ * {@value #BUFFERED_ITEMS} gauge when Micrometer is present.
+ *
+ * @since 3.6.0
+ */
+@Singleton
+@Internal
+@Requires(classes = MeterBinder.class)
+@Requires(property = ObservableBackpressureConfiguration.PREFIX + ".metrics.enabled", notEquals = "false")
+final class ObservableBufferMetricsBinder implements MeterBinder {
+
+    static final String BUFFERED_ITEMS = "rxjava3.observable.buffered.items";
+
+    private final ObservableBackpressureConverterRegistrar registrar;
+
+    ObservableBufferMetricsBinder(ObservableBackpressureConverterRegistrar registrar) {
+        this.registrar = registrar;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder(BUFFERED_ITEMS, registrar, ObservableBackpressureConverterRegistrar::getBufferedItems)
+                .description("The number of items buffered while converting RxJava 3 Observables to Publishers")
+                .baseUnit("items")
+                .register(registry);
+    }
+}
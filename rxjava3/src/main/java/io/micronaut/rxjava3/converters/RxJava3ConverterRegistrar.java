@@ -21,6 +21,8 @@ import io.micronaut.core.convert.MutableConversionService;
 import io.micronaut.core.convert.TypeConverterRegistrar;
 import io.micronaut.core.propagation.PropagatedContext;
 import io.reactivex.rxjava3.core.*;
+import io.reactivex.rxjava3.operators.QueueFuseable;
+import io.reactivex.rxjava3.operators.QueueSubscription;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -109,13 +111,20 @@ public class RxJava3ConverterRegistrar implements TypeConverterRegistrar {
         conversionService.addConverter(Publisher.class, Completable.class, ContextPropagatingPublisher::asCompletable);
     }
 
-    private static class ContextPropagatingPublisher<T> implements Publisher<T> {
+    /**
+     * Publisher that subscribes to, and delivers signals from, the actual publisher within the
+     * {@link PropagatedContext} that was current when the conversion happened.
+     *
+     * @param <T> The element type
+     */
+    private static final class ContextPropagatingPublisher<T> implements Publisher<T> {
 
         private final PropagatedContext context;
         private final Publisher<? extends T> actual;
 
         private ContextPropagatingPublisher(Publisher<? extends T> actual) {
-            this.context = PropagatedContext.find().orElse(null);
+            PropagatedContext current = PropagatedContext.find().orElse(null);
+            this.context = current == null || current.getAllElements().isEmpty() ? null : current;
             this.actual = actual;
         }
 
@@ -143,35 +152,136 @@ public class RxJava3ConverterRegistrar implements TypeConverterRegistrar {
         public void subscribe(Subscriber<? super T> subscriber) {
             if (context == null) {
                 actual.subscribe(subscriber);
+            } else if (PropagatedContext.getOrEmpty() == context) {
+                actual.subscribe(new ContextPropagatingSubscriber<>(subscriber, context));
             } else {
-                executeInContext(context, () -> actual.subscribe(new Subscriber<T>() {
-                    @Override
-                    public void onSubscribe(Subscription subscription) {
-                        executeInContext(context, () -> subscriber.onSubscribe(subscription));
-                    }
+                try (PropagatedContext.Scope ignore = context.propagate()) {
+                    actual.subscribe(new ContextPropagatingSubscriber<>(subscriber, context));
+                }
+            }
+        }
+    }
 
-                    @Override
-                    public void onNext(T t) {
-                        executeInContext(context, () -> subscriber.onNext(t));
-                    }
+    /**
+     * Subscriber that delivers signals within a {@link PropagatedContext}. Signals that already arrive on a
+     * thread where the same context is current are delivered directly, without installing a new scope.
+     * The subscriber also acts as a {@link QueueSubscription} so that downstream operators can keep fusing
+     * with a fuseable upstream, in which case {@link #poll()} is executed within the context.
+     *
+     * @param <T> The element type
+     */
+    private static final class ContextPropagatingSubscriber<T> implements FlowableSubscriber<T>, QueueSubscription<T> {
 
-                    @Override
-                    public void onError(Throwable throwable) {
-                        executeInContext(context, () -> subscriber.onError(throwable));
-                    }
+        private final Subscriber<? super T> downstream;
+        private final PropagatedContext context;
+        private Subscription upstream;
+        private QueueSubscription<T> queue;
 
-                    @Override
-                    public void onComplete() {
-                        executeInContext(context, subscriber::onComplete);
-                    }
-                }));
+        private ContextPropagatingSubscriber(Subscriber<? super T> downstream, PropagatedContext context) {
+            this.downstream = downstream;
+            this.context = context;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onSubscribe(@NonNull Subscription subscription) {
+            this.upstream = subscription;
+            if (subscription instanceof QueueSubscription) {
+                this.queue = (QueueSubscription<T>) subscription;
+            }
+            if (isPropagated()) {
+                downstream.onSubscribe(this);
+            } else {
+                try (PropagatedContext.Scope ignore = context.propagate()) {
+                    downstream.onSubscribe(this);
+                }
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (isPropagated()) {
+                downstream.onNext(t);
+            } else {
+                try (PropagatedContext.Scope ignore = context.propagate()) {
+                    downstream.onNext(t);
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (isPropagated()) {
+                downstream.onError(throwable);
+            } else {
+                try (PropagatedContext.Scope ignore = context.propagate()) {
+                    downstream.onError(throwable);
+                }
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (isPropagated()) {
+                downstream.onComplete();
+            } else {
+                try (PropagatedContext.Scope ignore = context.propagate()) {
+                    downstream.onComplete();
+                }
             }
         }
 
-        private void executeInContext(@NonNull PropagatedContext context, @NonNull Runnable runnable) {
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            QueueSubscription<T> qs = queue;
+            if (qs == null) {
+                return QueueFuseable.NONE;
+            }
+            return qs.requestFusion(mode);
+        }
+
+        @Override
+        public T poll() throws Throwable {
+            if (isPropagated()) {
+                return queue.poll();
+            }
             try (PropagatedContext.Scope ignore = context.propagate()) {
-                runnable.run();
+                return queue.poll();
             }
-         }
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            queue.clear();
+        }
+
+        @Override
+        public boolean offer(T value) {
+            throw new UnsupportedOperationException("Should not be called!");
+        }
+
+        @Override
+        public boolean offer(T v1, T v2) {
+            throw new UnsupportedOperationException("Should not be called!");
+        }
+
+        private boolean isPropagated() {
+            return PropagatedContext.getOrEmpty() == context;
+        }
     }
 }
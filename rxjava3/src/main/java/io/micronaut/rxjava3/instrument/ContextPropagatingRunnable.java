@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.instrument;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.propagation.PropagatedContext;
+
+/**
+ * A task that runs within the {@link PropagatedContext} that was current when it was scheduled.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class ContextPropagatingRunnable implements Runnable {
+
+    private final PropagatedContext context;
+    private final Runnable delegate;
+
+    private ContextPropagatingRunnable(PropagatedContext context, Runnable delegate) {
+        this.context = context;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wraps the task so that it runs within the current context. The task is returned as is when there is no
+     * current context or when it is already wrapped with the current context.
+     *
+     * @param runnable The task
+     * @return The task to schedule
+     */
+    @NonNull
+    static Runnable wrap(@NonNull Runnable runnable) {
+        if (!PropagatedContext.exists()) {
+            return runnable;
+        }
+        PropagatedContext context = PropagatedContext.get();
+        if (context == PropagatedContext.empty()) {
+            return runnable;
+        }
+        if (runnable instanceof ContextPropagatingRunnable && ((ContextPropagatingRunnable) runnable).context == context) {
+            return runnable;
+        }
+        return new ContextPropagatingRunnable(context, runnable);
+    }
+
+    @Override
+    public void run() {
+        if (PropagatedContext.getOrEmpty() == context) {
+            delegate.run();
+        } else {
+            try (PropagatedContext.Scope ignore = context.propagate()) {
+                delegate.run();
+            }
+        }
+    }
+}
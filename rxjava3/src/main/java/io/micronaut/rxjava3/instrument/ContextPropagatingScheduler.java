@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.instrument;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.reactivex.rxjava3.core.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Scheduler} that propagates the current context to the tasks scheduled on the scheduler it wraps. Used
+ * when the instrumentation is restricted to selected schedulers.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class ContextPropagatingScheduler extends DelegatingScheduler {
+
+    ContextPropagatingScheduler(Scheduler delegate) {
+        super(delegate);
+    }
+
+    @NonNull
+    @Override
+    protected Runnable decorate(@NonNull Runnable run, long delay, @NonNull TimeUnit unit) {
+        return ContextPropagatingRunnable.wrap(run);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.instrument;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Scheduler} that decorates every task before handing it to the scheduler it delegates to.
+ *
+ * @since 3.6.0
+ */
+@Internal
+abstract class DelegatingScheduler extends Scheduler {
+
+    protected final Scheduler delegate;
+
+    /**
+     * @param delegate The scheduler to delegate to
+     */
+    DelegatingScheduler(Scheduler delegate) {
+        this.delegate = delegate;
+    }
+
+    @NonNull
+    @Override
+    public Worker createWorker() {
+        return new DelegatingWorker(delegate.createWorker());
+    }
+
+    @Override
+    public long now(@NonNull TimeUnit unit) {
+        return delegate.now(unit);
+    }
+
+    @Override
+    public void start() {
+        delegate.start();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @NonNull
+    @Override
+    public Disposable scheduleDirect(@NonNull Runnable run, long delay, @NonNull TimeUnit unit) {
+        Runnable decorated = decorate(run, delay, unit);
+        return scheduled(decorated, delegate.scheduleDirect(decorated, delay, unit));
+    }
+
+    @NonNull
+    @Override
+    public Disposable schedulePeriodicallyDirect(@NonNull Runnable run, long initialDelay, long period, @NonNull TimeUnit unit) {
+        return delegate.schedulePeriodicallyDirect(decoratePeriodic(run), initialDelay, period, unit);
+    }
+
+    /**
+     * Decorates a task before it is scheduled.
+     *
+     * @param run   The task
+     * @param delay The delay before the task runs
+     * @param unit  The unit of the delay
+     * @return The task to schedule
+     */
+    @NonNull
+    protected abstract Runnable decorate(@NonNull Runnable run, long delay, @NonNull TimeUnit unit);
+
+    /**
+     * Decorates a periodic task before it is scheduled.
+     *
+     * @param run The task
+     * @return The task to schedule
+     */
+    @NonNull
+    protected Runnable decoratePeriodic(@NonNull Runnable run) {
+        return decorate(run, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Invoked once a decorated task has been scheduled.
+     *
+     * @param decorated  The decorated task
+     * @param disposable The disposable returned by the delegate
+     * @return The disposable to return to the caller
+     */
+    @NonNull
+    protected Disposable scheduled(@NonNull Runnable decorated, @NonNull Disposable disposable) {
+        return disposable;
+    }
+
+    /**
+     * Worker that decorates the tasks it schedules.
+     */
+    protected class DelegatingWorker extends Worker {
+
+        private final Worker worker;
+
+        /**
+         * @param worker The worker to delegate to
+         */
+        protected DelegatingWorker(Worker worker) {
+            this.worker = worker;
+        }
+
+        @NonNull
+        @Override
+        public Disposable schedule(@NonNull Runnable run, long delay, @NonNull TimeUnit unit) {
+            Runnable decorated = decorate(run, delay, unit);
+            return scheduled(decorated, worker.schedule(decorated, delay, unit));
+        }
+
+        @NonNull
+        @Override
+        public Disposable schedulePeriodically(@NonNull Runnable run, long initialDelay, long period, @NonNull TimeUnit unit) {
+            return worker.schedulePeriodically(decoratePeriodic(run), initialDelay, period, unit);
+        }
+
+        @Override
+        public long now(@NonNull TimeUnit unit) {
+            return worker.now(unit);
+        }
+
+        @Override
+        public void dispose() {
+            worker.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return worker.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.instrument;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Scheduler} that records Micrometer metrics for the tasks and workers of the scheduler it wraps.
+ *
+ * @since 3.6.0
+ */
+@Internal
+final class InstrumentedScheduler extends DelegatingScheduler {
+
+    private final Meters meters;
+    private final int sampleRate;
+
+    /**
+     * @param delegate   The scheduler to instrument
+     * @param meters     The meters of the scheduler
+     * @param sampleRate One in how many tasks is timed
+     */
+    InstrumentedScheduler(Scheduler delegate, Meters meters, int sampleRate) {
+        super(delegate);
+        this.meters = meters;
+        this.sampleRate = sampleRate;
+    }
+
+    @NonNull
+    @Override
+    public Worker createWorker() {
+        meters.activeWorkers.increment();
+        return new InstrumentedWorker(delegate.createWorker());
+    }
+
+    @NonNull
+    @Override
+    protected Runnable decorate(@NonNull Runnable run, long delay, @NonNull TimeUnit unit) {
+        boolean sampled = sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+        long dueTime = sampled ? System.nanoTime() + unit.toNanos(delay) : 0L;
+        if (delay <= 0) {
+            meters.queuedTasks.increment();
+        }
+        return new InstrumentedTask(run, delay <= 0, sampled, dueTime);
+    }
+
+    @NonNull
+    @Override
+    protected Runnable decoratePeriodic(@NonNull Runnable run) {
+        return new InstrumentedTask(run, false, false, 0L);
+    }
+
+    @NonNull
+    @Override
+    protected Disposable scheduled(@NonNull Runnable decorated, @NonNull Disposable disposable) {
+        if (decorated instanceof InstrumentedTask) {
+            InstrumentedTask task = (InstrumentedTask) decorated;
+            if (task.queued) {
+                if (disposable.isDisposed()) {
+                    // rejected, for instance by a disposed worker, so it will never run
+                    task.leaveQueue(InstrumentedTask.DISPOSED);
+                    return disposable;
+                }
+                task.disposable = disposable;
+                return task;
+            }
+        }
+        return disposable;
+    }
+
+    /**
+     * The meters of a scheduler, shared by all the instances wrapping the same standard scheduler.
+     */
+    static final class Meters {
+
+        private static final String PREFIX = "rxjava3.scheduler.";
+
+        private final LongAdder activeWorkers = new LongAdder();
+        private final LongAdder queuedTasks = new LongAdder();
+        private final LongAdder executedTasks = new LongAdder();
+        private final Timer latency;
+        private final Timer duration;
+
+        /**
+         * @param registry  The meter registry
+         * @param scheduler The scheduler
+         */
+        Meters(MeterRegistry registry, StandardScheduler scheduler) {
+            Tags tags = Tags.of("scheduler", scheduler.name().toLowerCase());
+            Gauge.builder(PREFIX + "workers.active", activeWorkers, LongAdder::sum)
+                    .description("The number of workers currently created and not disposed")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder(PREFIX + "tasks.queued", queuedTasks, LongAdder::sum)
+                    .description("The number of tasks scheduled without delay that have not started yet")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder(PREFIX + "tasks.executed", executedTasks, LongAdder::sum)
+                    .description("The number of executed tasks")
+                    .tags(tags)
+                    .register(registry);
+            latency = Timer.builder(PREFIX + "tasks.latency")
+                    .description("The time between the moment a sampled task is due and the moment it starts")
+                    .tags(tags)
+                    .register(registry);
+            duration = Timer.builder(PREFIX + "tasks.duration")
+                    .description("The execution time of sampled tasks")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Records the execution of a task.
+     */
+    private final class InstrumentedTask extends AtomicInteger implements Runnable, Disposable {
+
+        private static final int PENDING = 0;
+        private static final int STARTED = 1;
+        private static final int DISPOSED = 2;
+
+        private final Runnable delegate;
+        private final boolean queued;
+        private final boolean sampled;
+        private final long dueTime;
+        private volatile Disposable disposable;
+        private volatile InstrumentedWorker worker;
+
+        InstrumentedTask(Runnable delegate, boolean queued, boolean sampled, long dueTime) {
+            this.delegate = delegate;
+            this.queued = queued;
+            this.sampled = sampled;
+            this.dueTime = dueTime;
+        }
+
+        @Override
+        public void run() {
+            if (queued) {
+                leaveQueue(STARTED);
+            }
+            meters.executedTasks.increment();
+            if (sampled) {
+                long start = System.nanoTime();
+                meters.latency.record(Math.max(0L, start - dueTime), TimeUnit.NANOSECONDS);
+                try {
+                    delegate.run();
+                } finally {
+                    meters.duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            } else {
+                delegate.run();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            leaveQueue(DISPOSED);
+            Disposable d = disposable;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            Disposable d = disposable;
+            return d != null && d.isDisposed();
+        }
+
+        /**
+         * Removes a pending task from the queued gauge and from the tasks pending on its worker.
+         *
+         * @param state The state of the task once it left the queue
+         */
+        void leaveQueue(int state) {
+            if (compareAndSet(PENDING, state)) {
+                meters.queuedTasks.decrement();
+                InstrumentedWorker w = worker;
+                if (w != null) {
+                    w.pending.remove(this);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps track of the number of active workers and of the tasks still queued on them, which never run once the
+     * worker is disposed.
+     */
+    private final class InstrumentedWorker extends DelegatingWorker {
+
+        private final AtomicInteger disposed = new AtomicInteger();
+        private final Set<InstrumentedTask> pending = ConcurrentHashMap.newKeySet();
+
+        InstrumentedWorker(Worker worker) {
+            super(worker);
+        }
+
+        @NonNull
+        @Override
+        public Disposable schedule(@NonNull Runnable run, long delay, @NonNull TimeUnit unit) {
+            Disposable disposable = super.schedule(run, delay, unit);
+            if (disposable instanceof InstrumentedTask) {
+                InstrumentedTask task = (InstrumentedTask) disposable;
+                task.worker = this;
+                pending.add(task);
+                if (task.get() != InstrumentedTask.PENDING) {
+                    // started or disposed before it was added
+                    pending.remove(task);
+                } else if (disposed.get() != 0) {
+                    task.leaveQueue(InstrumentedTask.DISPOSED);
+                }
+            }
+            return disposable;
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed.compareAndSet(0, 1)) {
+                meters.activeWorkers.decrement();
+                for (InstrumentedTask task : pending) {
+                    task.leaveQueue(InstrumentedTask.DISPOSED);
+                }
+            }
+            super.dispose();
+        }
+    }
+}
@@ -15,19 +15,34 @@
  */
 package io.micronaut.rxjava3.instrument;
 
-
 import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Property;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.core.util.CollectionUtils;
+import io.reactivex.rxjava3.core.Scheduler;
 import io.reactivex.rxjava3.functions.Function;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Provides a single point of entry for all instrumentation for RxJava 3.x.
  *
+ * <p>By default the current {@link PropagatedContext} is propagated to every task scheduled through RxJava. When
+ * {@value #SCHEDULERS} is set, only tasks scheduled on the listed {@link StandardScheduler standard schedulers} are
+ * wrapped.</p>
+ *
  * @author Graeme Rocher
  * @since 1.0
  */
@@ -36,22 +51,52 @@ import jakarta.annotation.PreDestroy;
 @Internal
 final class RxJava3Instrumentation {
 
+    static final String SCHEDULERS = "rxjava3.instrumentation.schedulers";
+
+    private final Set<StandardScheduler> schedulers;
+    private final Map<Scheduler, Scheduler> wrappedSchedulers = new ConcurrentHashMap<>();
+    private final Map<StandardScheduler, Function<? super Scheduler, ? extends Scheduler>> schedulerHandlers = new EnumMap<>(StandardScheduler.class);
     private Function<? super Runnable, ? extends Runnable> scheduleHandler;
 
+    /**
+     * @param schedulers The schedulers to instrument, or {@code null} for all schedulers. Duplicates are ignored
+     */
+    RxJava3Instrumentation(@Property(name = SCHEDULERS) @Nullable List<StandardScheduler> schedulers) {
+        this.schedulers = CollectionUtils.isEmpty(schedulers) ? Collections.emptySet() : EnumSet.copyOf(schedulers);
+    }
+
     @PostConstruct
     void init() {
-        scheduleHandler = RxJavaPlugins.getScheduleHandler();
-        RxJavaPlugins.setScheduleHandler(runnable -> {
-            if (scheduleHandler != null) {
-                runnable = scheduleHandler.apply(runnable);
+        if (schedulers.isEmpty()) {
+            scheduleHandler = RxJavaPlugins.getScheduleHandler();
+            Function<? super Runnable, ? extends Runnable> previous = scheduleHandler;
+            if (previous == null) {
+                RxJavaPlugins.setScheduleHandler(ContextPropagatingRunnable::wrap);
+            } else {
+                RxJavaPlugins.setScheduleHandler(runnable -> ContextPropagatingRunnable.wrap(previous.apply(runnable)));
+            }
+        } else {
+            for (StandardScheduler scheduler : schedulers) {
+                schedulerHandlers.put(scheduler, scheduler.decorate(this::wrap));
             }
-            return PropagatedContext.wrapCurrent(runnable);
-        });
+        }
     }
 
     @PreDestroy
     void removeInstrumentation() {
-        RxJavaPlugins.setScheduleHandler(scheduleHandler);
+        if (schedulers.isEmpty()) {
+            RxJavaPlugins.setScheduleHandler(scheduleHandler);
+        } else {
+            for (StandardScheduler scheduler : schedulers) {
+                scheduler.setHandler(schedulerHandlers.get(scheduler));
+            }
+        }
     }
 
+    private Scheduler wrap(Scheduler scheduler) {
+        if (scheduler instanceof ContextPropagatingScheduler) {
+            return scheduler;
+        }
+        return wrappedSchedulers.computeIfAbsent(scheduler, ContextPropagatingScheduler::new);
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.instrument;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.functions.Function;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records Micrometer metrics for the standard RxJava 3 schedulers by decorating them through their
+ * {@link io.reactivex.rxjava3.plugins.RxJavaPlugins} scheduler handlers.
+ *
+ * @see SchedulerMetricsConfiguration
+ * @since 3.6.0
+ */
+@Context
+@Internal
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = SchedulerMetricsConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+final class RxJava3SchedulerMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final SchedulerMetricsConfiguration configuration;
+    private final Map<Scheduler, Scheduler> instrumentedSchedulers = new ConcurrentHashMap<>();
+    private final Map<StandardScheduler, Function<? super Scheduler, ? extends Scheduler>> schedulerHandlers = new EnumMap<>(StandardScheduler.class);
+
+    RxJava3SchedulerMetrics(MeterRegistry meterRegistry, SchedulerMetricsConfiguration configuration) {
+        this.meterRegistry = meterRegistry;
+        this.configuration = configuration;
+    }
+
+    @PostConstruct
+    void init() {
+        for (StandardScheduler scheduler : configuration.getSchedulers()) {
+            if (schedulerHandlers.containsKey(scheduler)) {
+                // listed twice, decorating again would lose the handler to restore
+                continue;
+            }
+            InstrumentedScheduler.Meters meters = new InstrumentedScheduler.Meters(meterRegistry, scheduler);
+            schedulerHandlers.put(scheduler, scheduler.decorate(s -> instrument(s, meters)));
+        }
+    }
+
+    @PreDestroy
+    void removeInstrumentation() {
+        schedulerHandlers.forEach(StandardScheduler::setHandler);
+    }
+
+    private Scheduler instrument(Scheduler scheduler, InstrumentedScheduler.Meters meters) {
+        if (scheduler instanceof InstrumentedScheduler) {
+            return scheduler;
+        }
+        return instrumentedSchedulers.computeIfAbsent(scheduler, s -> new InstrumentedScheduler(s, meters, configuration.getSampleRate()));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.instrument;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Configuration for the Micrometer metrics recorded for the standard RxJava 3 schedulers.
+ *
+ * @since 3.6.0
+ */
+@ConfigurationProperties(SchedulerMetricsConfiguration.PREFIX)
+public class SchedulerMetricsConfiguration implements Toggleable {
+
+    /**
+     * The prefix to use for configuration.
+     */
+    public static final String PREFIX = "rxjava3.metrics.schedulers";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default sample rate.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_SAMPLE_RATE = 16;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private int sampleRate = DEFAULT_SAMPLE_RATE;
+    private List<StandardScheduler> schedulers = Arrays.asList(StandardScheduler.values());
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether scheduler metrics are recorded. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled True if scheduler metrics should be recorded
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return One in how many tasks is timed
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Sets one in how many tasks has its queueing latency and execution time recorded. Task and worker counts are
+     * always recorded. Default value ({@value #DEFAULT_SAMPLE_RATE}).
+     *
+     * @param sampleRate The sample rate
+     */
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    /**
+     * @return The instrumented schedulers
+     */
+    @NonNull
+    public List<StandardScheduler> getSchedulers() {
+        return schedulers;
+    }
+
+    /**
+     * Sets the schedulers to instrument. Defaults to all the standard schedulers.
+     *
+     * @param schedulers The instrumented schedulers
+     */
+    public void setSchedulers(@NonNull List<StandardScheduler> schedulers) {
+        this.schedulers = schedulers;
+    }
+}
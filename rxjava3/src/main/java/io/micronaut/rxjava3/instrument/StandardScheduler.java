@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.instrument;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.functions.Function;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+
+/**
+ * The standard RxJava 3 schedulers that can be individually instrumented or replaced through {@link RxJavaPlugins}.
+ *
+ * @since 3.6.0
+ */
+public enum StandardScheduler {
+
+    /**
+     * {@link io.reactivex.rxjava3.schedulers.Schedulers#computation()}.
+     */
+    COMPUTATION {
+        @Override
+        public Function<? super Scheduler, ? extends Scheduler> getHandler() {
+            return RxJavaPlugins.getComputationSchedulerHandler();
+        }
+
+        @Override
+        public void setHandler(Function<? super Scheduler, ? extends Scheduler> handler) {
+            RxJavaPlugins.setComputationSchedulerHandler(handler);
+        }
+    },
+
+    /**
+     * {@link io.reactivex.rxjava3.schedulers.Schedulers#io()}.
+     */
+    IO {
+        @Override
+        public Function<? super Scheduler, ? extends Scheduler> getHandler() {
+            return RxJavaPlugins.getIoSchedulerHandler();
+        }
+
+        @Override
+        public void setHandler(Function<? super Scheduler, ? extends Scheduler> handler) {
+            RxJavaPlugins.setIoSchedulerHandler(handler);
+        }
+    },
+
+    /**
+     * {@link io.reactivex.rxjava3.schedulers.Schedulers#single()}.
+     */
+    SINGLE {
+        @Override
+        public Function<? super Scheduler, ? extends Scheduler> getHandler() {
+            return RxJavaPlugins.getSingleSchedulerHandler();
+        }
+
+        @Override
+        public void setHandler(Function<? super Scheduler, ? extends Scheduler> handler) {
+            RxJavaPlugins.setSingleSchedulerHandler(handler);
+        }
+    },
+
+    /**
+     * {@link io.reactivex.rxjava3.schedulers.Schedulers#newThread()}.
+     */
+    NEW_THREAD {
+        @Override
+        public Function<? super Scheduler, ? extends Scheduler> getHandler() {
+            return RxJavaPlugins.getNewThreadSchedulerHandler();
+        }
+
+        @Override
+        public void setHandler(Function<? super Scheduler, ? extends Scheduler> handler) {
+            RxJavaPlugins.setNewThreadSchedulerHandler(handler);
+        }
+    };
+
+    /**
+     * @return The handler currently installed for this scheduler, if any
+     */
+    @Internal
+    @Nullable
+    public abstract Function<? super Scheduler, ? extends Scheduler> getHandler();
+
+    /**
+     * Installs the handler for this scheduler.
+     *
+     * @param handler The handler, or {@code null} to remove it
+     */
+    @Internal
+    public abstract void setHandler(@Nullable Function<? super Scheduler, ? extends Scheduler> handler);
+
+    /**
+     * Installs a handler that decorates this scheduler after any handler that is already installed.
+     *
+     * @param decorator The decorating handler
+     * @return The previously installed handler, to be restored on shutdown
+     */
+    @Internal
+    @Nullable
+    public Function<? super Scheduler, ? extends Scheduler> decorate(@NonNull Function<? super Scheduler, ? extends Scheduler> decorator) {
+        Function<? super Scheduler, ? extends Scheduler> previous = getHandler();
+        if (previous == null) {
+            setHandler(decorator);
+        } else {
+            setHandler(scheduler -> decorator.apply(previous.apply(scheduler)));
+        }
+        return previous;
+    }
+
+    /**
+     * Installs a handler that replaces this scheduler. Handlers that are already installed are applied to the
+     * replacement, so that decorators such as the context propagation keep working.
+     *
+     * @param replacement The scheduler to use instead of the standard one
+     * @return The previously installed handler, to be restored on shutdown
+     */
+    @Internal
+    @Nullable
+    public Function<? super Scheduler, ? extends Scheduler> replace(@NonNull Scheduler replacement) {
+        Function<? super Scheduler, ? extends Scheduler> previous = getHandler();
+        if (previous == null) {
+            setHandler(scheduler -> replacement);
+        } else {
+            setHandler(scheduler -> previous.apply(replacement));
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.schedulers;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.rxjava3.instrument.StandardScheduler;
+import io.micronaut.scheduling.TaskExecutors;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.functions.Function;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Replaces the standard RxJava 3 schedulers that have an executor configured in
+ * {@link SchedulerExecutorConfiguration} with schedulers backed by the Micronaut managed executors, so that a
+ * single set of thread pools is sized and used.
+ *
+ * <p>The replacements are installed through the {@link io.reactivex.rxjava3.plugins.RxJavaPlugins} scheduler
+ * handlers and submit their tasks through {@link Schedulers#from(java.util.concurrent.Executor, boolean)}, so the
+ * context propagation installed by the RxJava 3 instrumentation keeps working.</p>
+ *
+ * @since 3.6.0
+ */
+@Context
+@Internal
+@Requires(classes = TaskExecutors.class)
+final class ExecutorSchedulers {
+
+    private final BeanLocator beanLocator;
+    private final List<SchedulerExecutorConfiguration> configurations;
+    private final Map<StandardScheduler, Function<? super Scheduler, ? extends Scheduler>> previousHandlers = new EnumMap<>(StandardScheduler.class);
+    private final List<Scheduler> schedulers = new ArrayList<>();
+
+    ExecutorSchedulers(BeanLocator beanLocator, List<SchedulerExecutorConfiguration> configurations) {
+        this.beanLocator = beanLocator;
+        this.configurations = configurations;
+    }
+
+    @PostConstruct
+    void init() {
+        for (SchedulerExecutorConfiguration configuration : configurations) {
+            String executorName = configuration.getExecutor();
+            if (executorName == null) {
+                continue;
+            }
+            StandardScheduler standardScheduler = configuration.getScheduler();
+            ExecutorService executor = beanLocator.findBean(ExecutorService.class, Qualifiers.byName(executorName))
+                    .orElseThrow(() -> new ConfigurationException("No executor named '" + executorName + "' is available for the RxJava 3 " + configuration.getName() + " scheduler"));
+            Scheduler scheduler = Schedulers.from(executor, standardScheduler != StandardScheduler.COMPUTATION);
+            schedulers.add(scheduler);
+            previousHandlers.put(standardScheduler, standardScheduler.replace(scheduler));
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        previousHandlers.forEach(StandardScheduler::setHandler);
+        schedulers.forEach(Scheduler::shutdown);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.rxjava3.schedulers;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.rxjava3.instrument.StandardScheduler;
+import io.micronaut.scheduling.TaskExecutors;
+
+import java.util.Locale;
+
+/**
+ * Binds a standard RxJava 3 scheduler ({@code computation}, {@code io}, {@code single} or {@code new-thread}) to a
+ * Micronaut managed executor, configured under {@code micronaut.executors.*}.
+ *
+ * @since 3.6.0
+ */
+@EachProperty(SchedulerExecutorConfiguration.PREFIX)
+public class SchedulerExecutorConfiguration {
+
+    /**
+     * The prefix to use for configuration.
+     */
+    public static final String PREFIX = "rxjava3.schedulers";
+
+    private final String name;
+    private String executor;
+    private boolean virtualThreads;
+
+    /**
+     * @param name The name of the standard scheduler
+     */
+    public SchedulerExecutorConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The name of the standard scheduler
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The standard scheduler
+     */
+    @NonNull
+    public StandardScheduler getScheduler() {
+        try {
+            return StandardScheduler.valueOf(name.toUpperCase(Locale.ENGLISH).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new ConfigurationException("Unknown RxJava 3 scheduler '" + name + "' configured under " + PREFIX);
+        }
+    }
+
+    /**
+     * @return The name of the executor the scheduler delegates to, if any
+     */
+    @Nullable
+    public String getExecutor() {
+        if (executor == null && virtualThreads) {
+            return TaskExecutors.VIRTUAL;
+        }
+        return executor;
+    }
+
+    /**
+     * Sets the name of the Micronaut managed executor the scheduler delegates to, for example {@code io} or the
+     * name of a custom executor declared under {@code micronaut.executors}. Any named
+     * {@link java.util.concurrent.ExecutorService} bean can be used.
+     *
+     * @param executor The executor name
+     */
+    public void setExecutor(@Nullable String executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return Whether the scheduler runs its tasks on virtual threads
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether the scheduler runs its tasks on virtual threads, through the {@value TaskExecutors#VIRTUAL}
+     * executor available on JDK 21 and above. Shortcut for setting the executor to {@value TaskExecutors#VIRTUAL}.
+     *
+     * @param virtualThreads True to use virtual threads
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+}
@@ -0,0 +1,135 @@
+package io.micronaut.rxjava3.converters
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.core.convert.DefaultMutableConversionService
+import io.reactivex.rxjava3.core.BackpressureStrategy
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.exceptions.MissingBackpressureException
+import io.reactivex.rxjava3.subjects.PublishSubject
+import io.reactivex.rxjava3.subscribers.TestSubscriber
+import org.reactivestreams.Publisher
+import spock.lang.Specification
+
+class ObservableBackpressureConverterRegistrarSpec extends Specification {
+
+    ObservableBackpressureConfiguration configuration = new ObservableBackpressureConfiguration()
+    ObservableBackpressureConverterRegistrar registrar = new ObservableBackpressureConverterRegistrar(configuration)
+    DefaultMutableConversionService conversionService = new DefaultMutableConversionService()
+
+    def setup() {
+        new RxJava3ConverterRegistrar().register(conversionService)
+        registrar.register(conversionService)
+    }
+
+    void "test items are buffered without bound by default and counted until consumed"() {
+        given:
+        PublishSubject<String> subject = PublishSubject.create()
+        TestSubscriber<String> subscriber = toFlowable(subject).test(0)
+
+        when:
+        10.times { subject.onNext("item-$it".toString()) }
+
+        then:
+        subscriber.assertNoValues()
+        registrar.bufferedItems == 10
+
+        when:
+        subscriber.request(4)
+
+        then:
+        subscriber.assertValueCount(4)
+        registrar.bufferedItems == 6
+
+        when:
+        subscriber.cancel()
+
+        then:
+        registrar.bufferedItems == 0
+    }
+
+    void "test a bounded buffer fails the stream once it is full"() {
+        given:
+        configuration.bufferSize = 2
+        PublishSubject<String> subject = PublishSubject.create()
+        TestSubscriber<String> subscriber = toFlowable(subject).test(0)
+
+        when:
+        subject.onNext('a')
+        subject.onNext('b')
+
+        then:
+        subscriber.assertNoErrors()
+        registrar.bufferedItems == 2
+
+        when:
+        subject.onNext('c')
+
+        then:
+        subscriber.assertError(MissingBackpressureException)
+        registrar.bufferedItems == 0
+    }
+
+    void "test the configured strategy is applied"() {
+        given:
+        configuration.strategy = BackpressureStrategy.DROP
+        PublishSubject<String> subject = PublishSubject.create()
+        TestSubscriber<String> subscriber = toFlowable(subject).test(1)
+
+        when:
+        subject.onNext('a')
+        subject.onNext('b')
+        subject.onNext('c')
+        subscriber.request(1)
+        subject.onNext('d')
+
+        then:
+        subscriber.assertValues('a', 'd')
+        registrar.bufferedItems == 0
+    }
+
+    void "test the strategy of a backpressured observable overrides the configuration"() {
+        given:
+        PublishSubject<String> subject = PublishSubject.create()
+        Observable<String> observable = new BackpressuredObservable<>(subject, BackpressureStrategy.LATEST, -1)
+        TestSubscriber<String> subscriber = toFlowable(observable).test(0)
+
+        when:
+        subject.onNext('a')
+        subject.onNext('b')
+        subject.onNext('c')
+        subscriber.request(1)
+
+        then:
+        subscriber.assertValues('c')
+        registrar.bufferedItems == 0
+    }
+
+    void "test the gauge reports the buffered items"() {
+        given:
+        SimpleMeterRegistry registry = new SimpleMeterRegistry()
+        new ObservableBufferMetricsBinder(registrar).bindTo(registry)
+        PublishSubject<String> subject = PublishSubject.create()
+        TestSubscriber<String> first = toFlowable(subject).test(0)
+        TestSubscriber<String> second = toFlowable(subject).test(1)
+
+        when:
+        subject.onNext('a')
+        subject.onNext('b')
+
+        then:
+        registry.get(ObservableBufferMetricsBinder.BUFFERED_ITEMS).gauge().value() == 3
+
+        when:
+        first.cancel()
+        second.request(1)
+
+        then:
+        second.assertValues('a', 'b')
+        registry.get(ObservableBufferMetricsBinder.BUFFERED_ITEMS).gauge().value() == 0
+    }
+
+    private <T> Flowable<T> toFlowable(Observable<T> observable) {
+        return (Flowable<T>) conversionService.convertRequired(observable, Publisher)
+    }
+}
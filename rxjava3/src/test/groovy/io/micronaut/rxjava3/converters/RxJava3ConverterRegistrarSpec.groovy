@@ -0,0 +1,187 @@
+package io.micronaut.rxjava3.converters
+
+import io.micronaut.core.convert.DefaultMutableConversionService
+import io.micronaut.core.propagation.PropagatedContext
+import io.micronaut.core.propagation.ThreadPropagatedContextElement
+import io.reactivex.rxjava3.core.Flowable
+import io.reactivex.rxjava3.core.FlowableSubscriber
+import io.reactivex.rxjava3.operators.QueueFuseable
+import io.reactivex.rxjava3.operators.QueueSubscription
+import io.reactivex.rxjava3.processors.PublishProcessor
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class RxJava3ConverterRegistrarSpec extends Specification {
+
+    DefaultMutableConversionService conversionService = new DefaultMutableConversionService()
+
+    def setup() {
+        new RxJava3ConverterRegistrar().register(conversionService)
+    }
+
+    void "test signals are delivered within the context of the conversion"() {
+        given:
+        PublishProcessor<String> processor = PublishProcessor.create()
+        Publisher<String> publisher = publisher(processor)
+        CountingElement element = new CountingElement('a')
+        Flowable<String> flowable
+        List<String> received = []
+
+        when:
+        try (PropagatedContext.Scope ignore = PropagatedContext.getOrEmpty().plus(element).propagate()) {
+            flowable = conversionService.convertRequired(publisher, Flowable)
+        }
+        flowable.doOnNext { received << currentValue() + ':' + it }.subscribe()
+        Thread thread = new Thread({ processor.onNext('one') })
+        thread.start()
+        thread.join()
+        processor.onNext('two')
+
+        then:
+        received == ['a:one', 'a:two']
+    }
+
+    void "test signals arriving within the same context do not install a new scope"() {
+        given:
+        PublishProcessor<String> processor = PublishProcessor.create()
+        CountingElement element = new CountingElement('a')
+        List<String> received = []
+
+        when:
+        try (PropagatedContext.Scope ignore = PropagatedContext.getOrEmpty().plus(element).propagate()) {
+            Flowable<String> flowable = conversionService.convertRequired(publisher(processor), Flowable)
+            flowable.doOnNext { received << currentValue() + ':' + it }.subscribe()
+            processor.onNext('one')
+            processor.onNext('two')
+        }
+
+        then:"only the scope of the test was installed"
+        received == ['a:one', 'a:two']
+        element.updates.get() == 1
+
+        when:
+        processor.onNext('three')
+
+        then:"a signal arriving outside of the context installs it"
+        received == ['a:one', 'a:two', 'a:three']
+        element.updates.get() == 2
+    }
+
+    void "test fusion with a fuseable upstream polls within the context"() {
+        given:
+        Publisher<String> publisher = publisher(Flowable.range(1, 3).map { currentValue() + ':' + it })
+        Flowable<String> flowable
+        QueueSubscription<String> queue = null
+        int mode = -1
+
+        when:
+        try (PropagatedContext.Scope ignore = PropagatedContext.getOrEmpty().plus(new CountingElement('a')).propagate()) {
+            flowable = conversionService.convertRequired(publisher, Flowable)
+        }
+        flowable.subscribe(new FusingSubscriber<String>({ Subscription subscription ->
+            queue = (QueueSubscription<String>) subscription
+            mode = queue.requestFusion(QueueFuseable.SYNC)
+        }))
+
+        then:
+        mode == QueueFuseable.SYNC
+        !PropagatedContext.exists()
+        queue.poll() == 'a:1'
+        queue.poll() == 'a:2'
+        !queue.isEmpty()
+        queue.poll() == 'a:3'
+        queue.poll() == null
+        queue.isEmpty()
+    }
+
+    void "test fusion is rejected when the upstream is not fuseable"() {
+        given:
+        Publisher<Integer> publisher = publisher(Flowable.range(1, 3).hide())
+        Flowable<Integer> flowable
+        int mode = -1
+
+        when:
+        try (PropagatedContext.Scope ignore = PropagatedContext.getOrEmpty().plus(new CountingElement('a')).propagate()) {
+            flowable = conversionService.convertRequired(publisher, Flowable)
+        }
+        flowable.subscribe(new FusingSubscriber<Integer>({ Subscription subscription ->
+            mode = ((QueueSubscription<Integer>) subscription).requestFusion(QueueFuseable.ANY)
+            subscription.request(Long.MAX_VALUE)
+        }))
+
+        then:
+        mode == QueueFuseable.NONE
+    }
+
+    void "test the subscriber is not wrapped without a context"() {
+        given:
+        Flowable<Integer> flowable = conversionService.convertRequired(publisher(Flowable.range(1, 3)), Flowable)
+        Subscription received = null
+
+        when:
+        flowable.subscribe(new FusingSubscriber<Integer>({ Subscription subscription -> received = subscription }))
+
+        then:
+        received != null
+        received.getClass().simpleName != 'ContextPropagatingSubscriber'
+    }
+
+    private static <T> Publisher<T> publisher(Flowable<T> flowable) {
+        // a plain publisher, so that the conversion does not return the flowable as is
+        return { Subscriber<? super T> subscriber -> flowable.subscribe(subscriber) } as Publisher<T>
+    }
+
+    private static String currentValue() {
+        PropagatedContext.find().flatMap { it.find(CountingElement) }.map { it.value }.orElse('none')
+    }
+
+    static class CountingElement implements ThreadPropagatedContextElement<Object> {
+
+        final String value
+        final AtomicInteger updates = new AtomicInteger()
+
+        CountingElement(String value) {
+            this.value = value
+        }
+
+        @Override
+        Object updateThreadContext() {
+            updates.incrementAndGet()
+            return null
+        }
+
+        @Override
+        void restoreThreadContext(Object oldState) {
+        }
+    }
+
+    static class FusingSubscriber<T> implements FlowableSubscriber<T> {
+
+        final Closure<?> onSubscribe
+
+        FusingSubscriber(Closure<?> onSubscribe) {
+            this.onSubscribe = onSubscribe
+        }
+
+        @Override
+        void onSubscribe(Subscription subscription) {
+            onSubscribe.call(subscription)
+        }
+
+        @Override
+        void onNext(T t) {
+        }
+
+        @Override
+        void onError(Throwable t) {
+        }
+
+        @Override
+        void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.micronaut.rxjava3.instrument
+
+import io.micronaut.core.propagation.PropagatedContext
+import io.micronaut.core.propagation.PropagatedContextElement
+import io.reactivex.rxjava3.core.Scheduler
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.functions.Function
+import io.reactivex.rxjava3.plugins.RxJavaPlugins
+import io.reactivex.rxjava3.schedulers.Schedulers
+import spock.lang.Specification
+
+class RxJava3InstrumentationSpec extends Specification {
+
+    def cleanup() {
+        RxJavaPlugins.reset()
+    }
+
+    void "test every scheduler propagates the context by default"() {
+        given:
+        RxJava3Instrumentation instrumentation = new RxJava3Instrumentation(null)
+
+        when:
+        instrumentation.init()
+
+        then:
+        RxJavaPlugins.getScheduleHandler() != null
+        valueOn(Schedulers.io()) == 'a'
+        valueOn(Schedulers.computation()) == 'a'
+        valueOn(Schedulers.single()) == 'a'
+
+        when:
+        instrumentation.removeInstrumentation()
+
+        then:
+        RxJavaPlugins.getScheduleHandler() == null
+        valueOn(Schedulers.io()) == 'none'
+    }
+
+    void "test only the listed schedulers propagate the context"() {
+        given:
+        RxJava3Instrumentation instrumentation = new RxJava3Instrumentation([StandardScheduler.IO, StandardScheduler.SINGLE])
+
+        when:
+        instrumentation.init()
+
+        then:
+        RxJavaPlugins.getScheduleHandler() == null
+        valueOn(Schedulers.io()) == 'a'
+        valueOn(Schedulers.single()) == 'a'
+        valueOn(Schedulers.computation()) == 'none'
+        valueOn(Schedulers.newThread()) == 'none'
+
+        when:
+        instrumentation.removeInstrumentation()
+
+        then:
+        StandardScheduler.IO.handler == null
+        StandardScheduler.SINGLE.handler == null
+        valueOn(Schedulers.io()) == 'none'
+    }
+
+    void "test listing a scheduler twice restores its previous handler on close"() {
+        given:
+        Function<? super Scheduler, ? extends Scheduler> previous = { Scheduler scheduler -> scheduler } as Function
+        StandardScheduler.IO.handler = previous
+        RxJava3Instrumentation instrumentation = new RxJava3Instrumentation([StandardScheduler.IO, StandardScheduler.IO])
+
+        when:
+        instrumentation.init()
+
+        then:
+        valueOn(Schedulers.io()) == 'a'
+
+        when:
+        instrumentation.removeInstrumentation()
+
+        then:
+        StandardScheduler.IO.handler.is(previous)
+    }
+
+    private static String valueOn(Scheduler scheduler) {
+        try (PropagatedContext.Scope ignore = PropagatedContext.getOrEmpty().plus(new TestElement('a')).propagate()) {
+            return Single.fromCallable { currentValue() }
+                    .subscribeOn(scheduler)
+                    .blockingGet()
+        }
+    }
+
+    private static String currentValue() {
+        PropagatedContext.find().flatMap { it.find(TestElement) }.map { it.value }.orElse('none')
+    }
+
+    static class TestElement implements PropagatedContextElement {
+
+        final String value
+
+        TestElement(String value) {
+            this.value = value
+        }
+    }
+}
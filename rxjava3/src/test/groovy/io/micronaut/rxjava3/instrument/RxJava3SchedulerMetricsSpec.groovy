@@ -0,0 +1,211 @@
+package io.micronaut.rxjava3.instrument
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.reactivex.rxjava3.core.Scheduler
+import io.reactivex.rxjava3.disposables.Disposable
+import io.reactivex.rxjava3.plugins.RxJavaPlugins
+import io.reactivex.rxjava3.schedulers.Schedulers
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class RxJava3SchedulerMetricsSpec extends Specification {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry()
+    SchedulerMetricsConfiguration configuration = new SchedulerMetricsConfiguration()
+    PollingConditions conditions = new PollingConditions(timeout: 5)
+
+    def setup() {
+        configuration.enabled = true
+        configuration.sampleRate = 1
+    }
+
+    def cleanup() {
+        RxJavaPlugins.reset()
+    }
+
+    void "test executed tasks are counted and timed"() {
+        given:
+        RxJava3SchedulerMetrics metrics = new RxJava3SchedulerMetrics(registry, configuration)
+        metrics.init()
+        CountDownLatch executed = new CountDownLatch(3)
+
+        when:
+        3.times { Schedulers.computation().scheduleDirect { executed.countDown() } }
+
+        then:
+        executed.await(5, TimeUnit.SECONDS)
+        conditions.eventually {
+            assert executedTasks('computation') == 3
+            assert registry.get('rxjava3.scheduler.tasks.latency').tag('scheduler', 'computation').timer().count() == 3
+            assert registry.get('rxjava3.scheduler.tasks.duration').tag('scheduler', 'computation').timer().count() == 3
+            assert queuedTasks('computation') == 0
+        }
+
+        cleanup:
+        metrics.removeInstrumentation()
+    }
+
+    void "test tasks waiting for the scheduler are reported as queued until they start or are disposed"() {
+        given:
+        RxJava3SchedulerMetrics metrics = new RxJava3SchedulerMetrics(registry, configuration)
+        metrics.init()
+        CountDownLatch started = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:
+        Schedulers.single().scheduleDirect {
+            started.countDown()
+            release.await(5, TimeUnit.SECONDS)
+        }
+        Disposable waiting = Schedulers.single().scheduleDirect {}
+
+        then:
+        started.await(5, TimeUnit.SECONDS)
+        queuedTasks('single') == 1
+
+        when:
+        waiting.dispose()
+        release.countDown()
+
+        then:
+        queuedTasks('single') == 0
+        conditions.eventually {
+            assert executedTasks('single') == 1
+        }
+
+        cleanup:
+        release.countDown()
+        metrics.removeInstrumentation()
+    }
+
+    void "test tasks still queued on a worker leave the queued tasks when the worker is disposed"() {
+        given:
+        RxJava3SchedulerMetrics metrics = new RxJava3SchedulerMetrics(registry, configuration)
+        metrics.init()
+        Scheduler.Worker worker = Schedulers.single().createWorker()
+        CountDownLatch started = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:
+        worker.schedule {
+            started.countDown()
+            try {
+                release.await(5, TimeUnit.SECONDS)
+            } catch (InterruptedException ignored) {
+            }
+        }
+        worker.schedule {}
+        worker.schedule {}
+
+        then:
+        started.await(5, TimeUnit.SECONDS)
+        queuedTasks('single') == 2
+
+        when:
+        worker.dispose()
+
+        then:
+        queuedTasks('single') == 0
+
+        cleanup:
+        release.countDown()
+        metrics.removeInstrumentation()
+    }
+
+    void "test tasks scheduled on a disposed worker are not reported as queued"() {
+        given:
+        RxJava3SchedulerMetrics metrics = new RxJava3SchedulerMetrics(registry, configuration)
+        metrics.init()
+        Scheduler.Worker worker = Schedulers.computation().createWorker()
+        worker.dispose()
+
+        when:
+        Disposable task = worker.schedule {}
+
+        then:
+        task.disposed
+        queuedTasks('computation') == 0
+
+        cleanup:
+        metrics.removeInstrumentation()
+    }
+
+    void "test active workers are tracked"() {
+        given:
+        RxJava3SchedulerMetrics metrics = new RxJava3SchedulerMetrics(registry, configuration)
+        metrics.init()
+
+        when:
+        Scheduler.Worker first = Schedulers.io().createWorker()
+        Scheduler.Worker second = Schedulers.io().createWorker()
+
+        then:
+        activeWorkers('io') == 2
+
+        when:
+        first.dispose()
+        first.dispose()
+
+        then:
+        activeWorkers('io') == 1
+
+        cleanup:
+        second?.dispose()
+        metrics.removeInstrumentation()
+    }
+
+    void "test only the configured schedulers are instrumented"() {
+        given:
+        configuration.schedulers = [StandardScheduler.IO]
+        RxJava3SchedulerMetrics metrics = new RxJava3SchedulerMetrics(registry, configuration)
+
+        when:
+        metrics.init()
+
+        then:
+        Schedulers.io() instanceof InstrumentedScheduler
+        !(Schedulers.computation() instanceof InstrumentedScheduler)
+        registry.find('rxjava3.scheduler.tasks.executed').tag('scheduler', 'io').functionCounter() != null
+        registry.find('rxjava3.scheduler.tasks.executed').tag('scheduler', 'computation').functionCounter() == null
+
+        when:
+        metrics.removeInstrumentation()
+
+        then:
+        StandardScheduler.IO.handler == null
+        !(Schedulers.io() instanceof InstrumentedScheduler)
+    }
+
+    void "test listing a scheduler twice instruments it once and restores its previous handler"() {
+        given:
+        configuration.schedulers = [StandardScheduler.IO, StandardScheduler.IO]
+        RxJava3SchedulerMetrics metrics = new RxJava3SchedulerMetrics(registry, configuration)
+
+        when:
+        metrics.init()
+
+        then:
+        Schedulers.io() instanceof InstrumentedScheduler
+
+        when:
+        metrics.removeInstrumentation()
+
+        then:
+        StandardScheduler.IO.handler == null
+    }
+
+    private double executedTasks(String scheduler) {
+        registry.get('rxjava3.scheduler.tasks.executed').tag('scheduler', scheduler).functionCounter().count()
+    }
+
+    private double queuedTasks(String scheduler) {
+        registry.get('rxjava3.scheduler.tasks.queued').tag('scheduler', scheduler).gauge().value()
+    }
+
+    private double activeWorkers(String scheduler) {
+        registry.get('rxjava3.scheduler.workers.active').tag('scheduler', scheduler).gauge().value()
+    }
+}
@@ -0,0 +1,105 @@
+package io.micronaut.rxjava3.schedulers
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.rxjava3.instrument.StandardScheduler
+import io.reactivex.rxjava3.core.Scheduler
+import io.reactivex.rxjava3.core.Single
+import io.reactivex.rxjava3.plugins.RxJavaPlugins
+import io.reactivex.rxjava3.schedulers.Schedulers
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadFactory
+
+class ExecutorSchedulersSpec extends Specification {
+
+    ExecutorService executor = Executors.newFixedThreadPool(2, { Runnable runnable -> new Thread(runnable, 'custom-executor') } as ThreadFactory)
+
+    def cleanup() {
+        RxJavaPlugins.reset()
+        executor.shutdownNow()
+    }
+
+    void "test a standard scheduler runs its tasks on the configured executor"() {
+        given:
+        ApplicationContext context = start((SchedulerExecutorConfiguration.PREFIX + '.io.executor'): 'custom')
+
+        expect:
+        threadOf(Schedulers.io()) == 'custom-executor'
+        threadOf(Schedulers.computation()) != 'custom-executor'
+
+        when:
+        context.close()
+
+        then:"the standard scheduler is restored"
+        StandardScheduler.IO.handler == null
+        threadOf(Schedulers.io()) != 'custom-executor'
+    }
+
+    void "test the scheduler name is matched with dashes"() {
+        given:
+        ApplicationContext context = start((SchedulerExecutorConfiguration.PREFIX + '.new-thread.executor'): 'custom')
+
+        expect:
+        threadOf(Schedulers.newThread()) == 'custom-executor'
+        threadOf(Schedulers.io()) != 'custom-executor'
+
+        cleanup:
+        context.close()
+    }
+
+    void "test a scheduler without an executor is not replaced"() {
+        given:
+        ApplicationContext context = start((SchedulerExecutorConfiguration.PREFIX + '.io.virtual-threads'): 'false')
+
+        expect:
+        StandardScheduler.IO.handler == null
+        threadOf(Schedulers.io()) != 'custom-executor'
+
+        cleanup:
+        context.close()
+    }
+
+    void "test an unknown executor fails the startup"() {
+        when:
+        start((SchedulerExecutorConfiguration.PREFIX + '.io.executor'): 'missing')
+
+        then:
+        RuntimeException e = thrown()
+        rootCause(e) instanceof ConfigurationException
+        rootCause(e).message == "No executor named 'missing' is available for the RxJava 3 io scheduler"
+    }
+
+    void "test an unknown scheduler fails the startup"() {
+        when:
+        start((SchedulerExecutorConfiguration.PREFIX + '.other.executor'): 'custom')
+
+        then:
+        RuntimeException e = thrown()
+        rootCause(e) instanceof ConfigurationException
+        rootCause(e).message == "Unknown RxJava 3 scheduler 'other' configured under " + SchedulerExecutorConfiguration.PREFIX
+    }
+
+    private ApplicationContext start(Map<String, Object> properties) {
+        ApplicationContext context = ApplicationContext.builder().properties(properties).build()
+        context.registerSingleton(ExecutorService, executor, Qualifiers.byName('custom'))
+        return context.start()
+    }
+
+    private static String threadOf(Scheduler scheduler) {
+        Single.fromCallable { Thread.currentThread().name }
+                .subscribeOn(scheduler)
+                .blockingGet()
+    }
+
+    private static Throwable rootCause(Throwable throwable) {
+        Throwable cause = throwable
+        while (cause.cause != null && cause.cause != cause) {
+            cause = cause.cause
+        }
+        return cause
+    }
+}